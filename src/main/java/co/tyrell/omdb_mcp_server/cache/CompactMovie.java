@@ -0,0 +1,293 @@
+package co.tyrell.omdb_mcp_server.cache;
+
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbMovie;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compact in-memory form of a cached {@link OmdbMovie}.
+ * Low-cardinality fields (rating, type, genres, languages, countries, rating sources and the like)
+ * share one instance per distinct value across all entries. Year, runtime, Metascore, IMDB rating and
+ * votes are kept as ints when their text can be reproduced exactly, and the plot as UTF-8 bytes.
+ * The OMDB JSON the movie was read from is not kept, so JSON output for a rebuilt movie is serialized
+ * from its fields. The movie is rebuilt in full with {@link #toMovie()} each time it is read from the cache.
+ */
+public final class CompactMovie {
+
+    private static final String NOT_AVAILABLE_TEXT = "N/A";
+
+    // Numeric field values below zero
+    private static final int NULL = -1;
+    private static final int NOT_AVAILABLE = -2;
+    private static final int IRREGULAR = -3;
+
+    // Indexes into the irregular text of numeric fields
+    private static final int YEAR = 0;
+    private static final int RUNTIME = 1;
+    private static final int METASCORE = 2;
+    private static final int IMDB_RATING = 3;
+    private static final int IMDB_VOTES = 4;
+
+    // Rough heap cost of the object itself, and of each String and array it holds
+    private static final int BASE_SIZE = 120;
+    private static final int STRING_OVERHEAD = 40;
+    private static final int ARRAY_OVERHEAD = 16;
+
+    // Shared values; once full, further distinct values are kept as is
+    private static final int DICTIONARY_LIMIT = 16_384;
+    private static final ConcurrentHashMap<String, String> DICTIONARY = new ConcurrentHashMap<>();
+
+    private enum Numeric { PLAIN, MINUTES, TENTHS, GROUPED }
+
+    private final String title;
+    private final String rated;
+    private final String released;
+    private final String genre;
+    private final String director;
+    private final String writer;
+    private final String actors;
+    private final byte[] plot;
+    private final String language;
+    private final String country;
+    private final String awards;
+    private final String poster;
+    private final String imdbId;
+    private final String type;
+    private final String dvd;
+    private final String boxOffice;
+    private final String production;
+    private final String website;
+    private final String response;
+    private final String error;
+    private final String[] ratings; // Source and value pairs
+    private final int year;
+    private final int runtime;
+    private final int metascore;
+    private final int imdbRating;
+    private final int imdbVotes;
+    private final String[] irregular; // Numeric field text that does not round-trip, if any
+
+    private CompactMovie(OmdbMovie movie) {
+        String[] irregularText = new String[5];
+        title = shareNotAvailable(movie.getTitle());
+        rated = share(movie.getRated());
+        released = shareNotAvailable(movie.getReleased());
+        genre = share(movie.getGenre());
+        director = shareNotAvailable(movie.getDirector());
+        writer = shareNotAvailable(movie.getWriter());
+        actors = shareNotAvailable(movie.getActors());
+        plot = movie.getPlot() != null ? movie.getPlot().getBytes(StandardCharsets.UTF_8) : null;
+        language = share(movie.getLanguage());
+        country = share(movie.getCountry());
+        awards = shareNotAvailable(movie.getAwards());
+        poster = shareNotAvailable(movie.getPoster());
+        imdbId = movie.getImdbId();
+        type = share(movie.getType());
+        dvd = share(movie.getDvd());
+        boxOffice = shareNotAvailable(movie.getBoxOffice());
+        production = share(movie.getProduction());
+        website = share(movie.getWebsite());
+        response = share(movie.getResponse());
+        error = share(movie.getError());
+        ratings = compactRatings(movie.getRatings());
+        year = encode(movie.getYear(), Numeric.PLAIN, YEAR, irregularText);
+        runtime = encode(movie.getRuntime(), Numeric.MINUTES, RUNTIME, irregularText);
+        metascore = encode(movie.getMetascore(), Numeric.PLAIN, METASCORE, irregularText);
+        imdbRating = encode(movie.getImdbRating(), Numeric.TENTHS, IMDB_RATING, irregularText);
+        imdbVotes = encode(movie.getImdbVotes(), Numeric.GROUPED, IMDB_VOTES, irregularText);
+        irregular = year == IRREGULAR || runtime == IRREGULAR || metascore == IRREGULAR
+                || imdbRating == IRREGULAR || imdbVotes == IRREGULAR ? irregularText : null;
+    }
+
+    public static CompactMovie of(OmdbMovie movie) {
+        return new CompactMovie(movie);
+    }
+
+    /**
+     * Store form of a cache value: movies become compact, other values are kept as they are
+     */
+    public static Object compact(Object value) {
+        return value instanceof OmdbMovie movie ? new CompactMovie(movie) : value;
+    }
+
+    /**
+     * Value form of a stored cache value: compact movies are rebuilt, other values are returned as they are
+     */
+    public static Object expand(Object value) {
+        return value instanceof CompactMovie compactMovie ? compactMovie.toMovie() : value;
+    }
+
+    /**
+     * Rebuild the movie. Each call returns a new instance.
+     */
+    public OmdbMovie toMovie() {
+        OmdbMovie movie = new OmdbMovie();
+        movie.setTitle(title);
+        movie.setYear(decode(year, Numeric.PLAIN, YEAR));
+        movie.setRated(rated);
+        movie.setReleased(released);
+        movie.setRuntime(decode(runtime, Numeric.MINUTES, RUNTIME));
+        movie.setGenre(genre);
+        movie.setDirector(director);
+        movie.setWriter(writer);
+        movie.setActors(actors);
+        movie.setPlot(plot != null ? new String(plot, StandardCharsets.UTF_8) : null);
+        movie.setLanguage(language);
+        movie.setCountry(country);
+        movie.setAwards(awards);
+        movie.setPoster(poster);
+        movie.setRatings(expandRatings());
+        movie.setMetascore(decode(metascore, Numeric.PLAIN, METASCORE));
+        movie.setImdbRating(decode(imdbRating, Numeric.TENTHS, IMDB_RATING));
+        movie.setImdbVotes(decode(imdbVotes, Numeric.GROUPED, IMDB_VOTES));
+        movie.setImdbId(imdbId);
+        movie.setType(type);
+        movie.setDvd(dvd);
+        movie.setBoxOffice(boxOffice);
+        movie.setProduction(production);
+        movie.setWebsite(website);
+        movie.setResponse(response);
+        movie.setError(error);
+        return movie;
+    }
+
+    /**
+     * Whether OMDB answered with {@code Response: "True"}
+     */
+    public boolean isSuccessful() {
+        return "True".equals(response);
+    }
+
+    /**
+     * Estimated heap size in bytes. Shared values are counted as references only.
+     */
+    public int estimatedSize() {
+        int size = BASE_SIZE + (plot != null ? ARRAY_OVERHEAD + plot.length : 0);
+        for (String value : new String[] {title, released, director, writer, actors, awards, poster, imdbId, boxOffice}) {
+            size += sizeOf(value);
+        }
+        if (ratings != null) {
+            size += ARRAY_OVERHEAD + 4 * ratings.length;
+        }
+        if (irregular != null) {
+            size += ARRAY_OVERHEAD + 4 * irregular.length;
+            for (String value : irregular) {
+                size += sizeOf(value);
+            }
+        }
+        return size;
+    }
+
+    private OmdbMovie.Rating[] expandRatings() {
+        if (ratings == null) {
+            return null;
+        }
+        OmdbMovie.Rating[] expanded = new OmdbMovie.Rating[ratings.length / 2];
+        for (int i = 0; i < expanded.length; i++) {
+            OmdbMovie.Rating rating = new OmdbMovie.Rating();
+            rating.setSource(ratings[2 * i]);
+            rating.setValue(ratings[2 * i + 1]);
+            expanded[i] = rating;
+        }
+        return expanded;
+    }
+
+    private String decode(int value, Numeric format, int field) {
+        return switch (value) {
+            case NULL -> null;
+            case NOT_AVAILABLE -> NOT_AVAILABLE_TEXT;
+            case IRREGULAR -> irregular[field];
+            default -> format(value, format);
+        };
+    }
+
+    private static String[] compactRatings(OmdbMovie.Rating[] ratings) {
+        if (ratings == null) {
+            return null;
+        }
+        String[] compacted = new String[2 * ratings.length];
+        for (int i = 0; i < ratings.length; i++) {
+            compacted[2 * i] = share(ratings[i].getSource());
+            compacted[2 * i + 1] = share(ratings[i].getValue());
+        }
+        return compacted;
+    }
+
+    /**
+     * Encode numeric text as a non-negative int, or as a marker for null, "N/A" or text that
+     * would not be reproduced exactly, which is then kept in the irregular text
+     */
+    private static int encode(String text, Numeric format, int field, String[] irregularText) {
+        if (text == null) {
+            return NULL;
+        }
+        if (NOT_AVAILABLE_TEXT.equals(text)) {
+            return NOT_AVAILABLE;
+        }
+        int value = parse(text, format);
+        if (value >= 0 && format(value, format).equals(text)) {
+            return value;
+        }
+        irregularText[field] = text;
+        return IRREGULAR;
+    }
+
+    private static int parse(String text, Numeric format) {
+        String digits = switch (format) {
+            case PLAIN -> text;
+            case MINUTES -> text.endsWith(" min") ? text.substring(0, text.length() - 4) : "";
+            case TENTHS -> text.replace(".", "");
+            case GROUPED -> text.replace(",", "");
+        };
+        if (digits.isEmpty() || digits.length() > 9) {
+            return -1;
+        }
+        for (int i = 0; i < digits.length(); i++) {
+            if (digits.charAt(i) < '0' || digits.charAt(i) > '9') {
+                return -1;
+            }
+        }
+        return Integer.parseInt(digits);
+    }
+
+    private static String format(int value, Numeric format) {
+        return switch (format) {
+            case PLAIN -> Integer.toString(value);
+            case MINUTES -> value + " min";
+            case TENTHS -> value / 10 + "." + value % 10;
+            case GROUPED -> grouped(value);
+        };
+    }
+
+    private static String grouped(int value) {
+        StringBuilder text = new StringBuilder(Integer.toString(value));
+        for (int i = text.length() - 3; i > 0; i -= 3) {
+            text.insert(i, ',');
+        }
+        return text.toString();
+    }
+
+    private static String share(String value) {
+        if (value == null) {
+            return null;
+        }
+        String shared = DICTIONARY.get(value);
+        if (shared != null) {
+            return shared;
+        }
+        if (DICTIONARY.size() >= DICTIONARY_LIMIT) {
+            return value;
+        }
+        shared = DICTIONARY.putIfAbsent(value, value);
+        return shared != null ? shared : value;
+    }
+
+    private static String shareNotAvailable(String value) {
+        return NOT_AVAILABLE_TEXT.equals(value) ? NOT_AVAILABLE_TEXT : value;
+    }
+
+    private static int sizeOf(String value) {
+        return value != null && !NOT_AVAILABLE_TEXT.equals(value) ? STRING_OVERHEAD + value.length() : 0;
+    }
+}
@@ -0,0 +1,332 @@
+package co.tyrell.omdb_mcp_server.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Persistent second-level cache store backed by an append-only log file.
+ * Each record holds its key, write timestamp and the {@link OmdbBinaryCodec} encoding of the value.
+ * An in-memory index of record offsets is rebuilt by replaying the log on startup, so lookups are a
+ * single positional read. When the log outgrows its size budget it is compacted, keeping the most
+ * recently written live entries. All methods block on file I/O, and a write may run a compaction, so
+ * callers on event loop threads must hand them to another thread.
+ */
+@Slf4j
+public class DiskCacheStore implements Closeable {
+
+    private static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Long.BYTES;
+    private static final int TOMBSTONE = -1;
+    private static final double COMPACTION_TARGET = 0.75;
+
+    private final Path file;
+    private final Duration expireAfterWrite;
+    private final long maximumBytes;
+    private final Map<String, Entry> index = new ConcurrentHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private FileChannel channel;
+    private long writePosition;
+
+    private record Entry(long valueOffset, int valueLength, long writtenAt) {
+    }
+
+    public DiskCacheStore(Path file, Duration expireAfterWrite, long maximumBytes) throws IOException {
+        this.file = file;
+        this.expireAfterWrite = expireAfterWrite;
+        this.maximumBytes = maximumBytes;
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        this.channel = open(file);
+        replay();
+        log.info("Opened disk cache store {} with {} entries ({} bytes)", file, index.size(), writePosition);
+    }
+
+    /**
+     * Look up a value, returning null if absent, expired or unreadable
+     */
+    public Object get(Object key) {
+        String storeKey = String.valueOf(key);
+        lock.readLock().lock();
+        Entry entry = index.get(storeKey);
+        try {
+            if (entry == null) {
+                return null;
+            }
+            if (isExpired(entry, System.currentTimeMillis())) {
+                index.remove(storeKey, entry);
+                return null;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(entry.valueLength());
+            readFully(buffer, entry.valueOffset());
+            return OmdbBinaryCodec.decode(buffer.array());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to read disk cache entry {} from {}: {}", storeKey, file, e.getMessage());
+            index.remove(storeKey, entry);
+            return null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Whether the key has an entry, which may still turn out to be expired or unreadable on {@link #get(Object)}
+     */
+    public boolean contains(Object key) {
+        return index.containsKey(String.valueOf(key));
+    }
+
+    /**
+     * Append a value to the log. Values not supported by {@link OmdbBinaryCodec} are ignored.
+     */
+    public void put(Object key, Object value) {
+        if (!OmdbBinaryCodec.supports(value)) {
+            return;
+        }
+        append(String.valueOf(key), OmdbBinaryCodec.encode(value));
+    }
+
+    /**
+     * Remove a single entry
+     */
+    public void evict(Object key) {
+        String storeKey = String.valueOf(key);
+        if (index.containsKey(storeKey)) {
+            append(storeKey, null);
+        }
+    }
+
+    /**
+     * Remove all entries and truncate the log
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            channel.truncate(0);
+            writePosition = 0;
+            index.clear();
+        } catch (IOException e) {
+            log.warn("Failed to clear disk cache store {}: {}", file, e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Number of indexed entries, including entries that have expired but not yet been dropped
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Current size of the log file in bytes
+     */
+    public long sizeInBytes() {
+        return writePosition;
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            channel.force(false);
+            channel.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void append(String storeKey, byte[] value) {
+        byte[] keyBytes = storeKey.getBytes(StandardCharsets.UTF_8);
+        int valueLength = value != null ? value.length : TOMBSTONE;
+        long writtenAt = System.currentTimeMillis();
+
+        ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + keyBytes.length + Math.max(valueLength, 0));
+        record.putInt(keyBytes.length).putInt(valueLength).putLong(writtenAt).put(keyBytes);
+        if (value != null) {
+            record.put(value);
+        }
+        record.flip();
+
+        boolean compact;
+        lock.writeLock().lock();
+        try {
+            long recordOffset = writePosition;
+            while (record.hasRemaining()) {
+                writePosition += channel.write(record, writePosition);
+            }
+            if (value != null) {
+                index.put(storeKey, new Entry(recordOffset + HEADER_SIZE + keyBytes.length, valueLength, writtenAt));
+            } else {
+                index.remove(storeKey);
+            }
+            compact = writePosition > maximumBytes;
+        } catch (IOException e) {
+            log.warn("Failed to write disk cache entry {} to {}: {}", storeKey, file, e.getMessage());
+            return;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (compact) {
+            compact();
+        }
+    }
+
+    /**
+     * Rewrite the log keeping only live entries, newest first, up to the compaction target size
+     */
+    private void compact() {
+        lock.writeLock().lock();
+        try {
+            if (writePosition <= maximumBytes) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            long budget = (long) (maximumBytes * COMPACTION_TARGET);
+            List<Map.Entry<String, Entry>> live = index.entrySet().stream()
+                    .filter(e -> !isExpired(e.getValue(), now))
+                    .sorted(Comparator.comparingLong((Map.Entry<String, Entry> e) -> e.getValue().writtenAt()).reversed())
+                    .toList();
+
+            Path compacted = file.resolveSibling(file.getFileName() + ".compact");
+            Map<String, Entry> compactedIndex = new HashMap<>();
+            long position = 0;
+            try (FileChannel target = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                for (Map.Entry<String, Entry> e : live) {
+                    byte[] keyBytes = e.getKey().getBytes(StandardCharsets.UTF_8);
+                    Entry entry = e.getValue();
+                    int recordSize = HEADER_SIZE + keyBytes.length + entry.valueLength();
+                    if (position + recordSize > budget) {
+                        break;
+                    }
+
+                    ByteBuffer record = ByteBuffer.allocate(recordSize);
+                    record.putInt(keyBytes.length).putInt(entry.valueLength()).putLong(entry.writtenAt()).put(keyBytes);
+                    readFully(record, entry.valueOffset());
+                    record.flip();
+
+                    long recordOffset = position;
+                    while (record.hasRemaining()) {
+                        position += target.write(record, position);
+                    }
+                    compactedIndex.put(e.getKey(), new Entry(recordOffset + HEADER_SIZE + keyBytes.length, entry.valueLength(), entry.writtenAt()));
+                }
+                target.force(false);
+            }
+
+            channel.close();
+            Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel = open(file);
+            writePosition = position;
+            index.clear();
+            index.putAll(compactedIndex);
+            log.info("Compacted disk cache store {} to {} entries ({} bytes)", file, index.size(), writePosition);
+        } catch (IOException e) {
+            log.warn("Failed to compact disk cache store {}, clearing it: {}", file, e.getMessage());
+            reopenEmpty();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuild the index from the log, truncating any partially written record at the tail
+     */
+    private void replay() throws IOException {
+        long now = System.currentTimeMillis();
+        long position = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                Channels.newInputStream(FileChannel.open(file, StandardOpenOption.READ)), 64 * 1024))) {
+            while (true) {
+                int keyLength;
+                try {
+                    keyLength = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                int valueLength = in.readInt();
+                if (keyLength < 0 || valueLength < TOMBSTONE) {
+                    log.warn("Disk cache store {} has a corrupt record at offset {}, truncating", file, position);
+                    break;
+                }
+                long writtenAt = in.readLong();
+                byte[] keyBytes = new byte[keyLength];
+                in.readFully(keyBytes);
+                if (valueLength > 0) {
+                    in.skipNBytes(valueLength);
+                }
+
+                String storeKey = new String(keyBytes, StandardCharsets.UTF_8);
+                Entry entry = new Entry(position + HEADER_SIZE + keyLength, valueLength, writtenAt);
+                if (valueLength == TOMBSTONE || isExpired(entry, now)) {
+                    index.remove(storeKey);
+                } else {
+                    index.put(storeKey, entry);
+                }
+                position += HEADER_SIZE + keyLength + Math.max(valueLength, 0);
+            }
+        } catch (EOFException e) {
+            log.warn("Disk cache store {} ends with a partial record at offset {}, truncating", file, position);
+        }
+
+        if (position < channel.size()) {
+            channel.truncate(position);
+        }
+        writePosition = position;
+    }
+
+    private void reopenEmpty() {
+        try {
+            if (channel.isOpen()) {
+                channel.close();
+            }
+            Files.deleteIfExists(file);
+            channel = open(file);
+        } catch (IOException e) {
+            log.error("Failed to reopen disk cache store {}", file, e);
+        }
+        writePosition = 0;
+        index.clear();
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of disk cache store " + file);
+            }
+            position += read;
+        }
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return now - entry.writtenAt() > expireAfterWrite.toMillis();
+    }
+
+    private static FileChannel open(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+}
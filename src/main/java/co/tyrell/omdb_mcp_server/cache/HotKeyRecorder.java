@@ -0,0 +1,118 @@
+package co.tyrell.omdb_mcp_server.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Counts how often each OMDB cache key is requested, so the most requested keys of a run can be
+ * saved and used to warm the caches after the next start. At most {@code maxTrackedKeys} distinct
+ * keys are tracked; keys first seen after that are not counted. Keys requested by the warm-up itself
+ * are not counted either.
+ */
+@Slf4j
+public class HotKeyRecorder {
+
+    private final Map<OmdbCacheKey, LongAdder> counts = new ConcurrentHashMap<>();
+    private final int maxTrackedKeys;
+    private final ThreadLocal<Boolean> suppressed = new ThreadLocal<>();
+
+    public HotKeyRecorder(int maxTrackedKeys) {
+        this.maxTrackedKeys = maxTrackedKeys;
+    }
+
+    public void record(OmdbCacheKey key) {
+        if (maxTrackedKeys <= 0 || Boolean.TRUE.equals(suppressed.get())) {
+            return;
+        }
+        LongAdder count = counts.get(key);
+        if (count == null) {
+            if (counts.size() >= maxTrackedKeys) {
+                return;
+            }
+            count = counts.computeIfAbsent(key, k -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    /**
+     * Make a call without recording the keys it requests. Cache keys are generated when the cached
+     * method is invoked, so only the invocation has to happen inside the call, not the subscription.
+     */
+    public <T> T withoutRecording(Supplier<T> call) {
+        Boolean previous = suppressed.get();
+        suppressed.set(Boolean.TRUE);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                suppressed.remove();
+            } else {
+                suppressed.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Most requested keys first
+     */
+    public List<OmdbCacheKey> topKeys(int limit) {
+        return counts.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+                .sorted(Map.Entry.<OmdbCacheKey, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public int size() {
+        return counts.size();
+    }
+
+    /**
+     * Write the most requested keys to a file, one per line, replacing it only once complete
+     */
+    public void save(Path file, int limit) throws IOException {
+        Path absolute = file.toAbsolutePath();
+        Files.createDirectories(absolute.getParent());
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (OmdbCacheKey key : topKeys(limit)) {
+                writer.write(key.toString());
+                writer.newLine();
+            }
+        }
+        Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Read keys written by {@link #save(Path, int)} or listed by hand. Blank lines and lines starting
+     * with {@code #} are ignored, as are lines that are not keys.
+     */
+    public static List<OmdbCacheKey> load(Path file) throws IOException {
+        List<OmdbCacheKey> keys = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            try {
+                keys.add(OmdbCacheKey.parse(line.strip()));
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring invalid cache key in {}: {}", file, line);
+            }
+        }
+        return keys;
+    }
+}
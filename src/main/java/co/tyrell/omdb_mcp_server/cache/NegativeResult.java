@@ -0,0 +1,29 @@
+package co.tyrell.omdb_mcp_server.cache;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Cached outcome of an OMDB call that did not produce a usable result:
+ * either a {@code Response: "False"} answer or an upstream error.
+ */
+public record NegativeResult(Object response, Throwable error) {
+
+    public static NegativeResult ofResponse(Object response) {
+        return new NegativeResult(response, null);
+    }
+
+    public static NegativeResult ofError(Throwable error) {
+        return new NegativeResult(null, error);
+    }
+
+    public boolean isError() {
+        return error != null;
+    }
+
+    /**
+     * Replay the cached outcome to a new caller
+     */
+    public <T> Mono<T> replay(Class<T> type) {
+        return isError() ? Mono.error(error) : Mono.just(type.cast(response));
+    }
+}
@@ -0,0 +1,35 @@
+package co.tyrell.omdb_mcp_server.cache;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+
+/**
+ * Expiry for the negative result cache: {@code Response: "False"} answers are kept for the
+ * negative TTL, upstream errors only for the usually much shorter error TTL.
+ */
+public class NegativeResultExpiry implements Expiry<Object, Object> {
+
+    private final long responseTtlNanos;
+    private final long errorTtlNanos;
+
+    public NegativeResultExpiry(Duration responseTtl, Duration errorTtl) {
+        this.responseTtlNanos = responseTtl.toNanos();
+        this.errorTtlNanos = errorTtl.toNanos();
+    }
+
+    @Override
+    public long expireAfterCreate(Object key, Object value, long currentTime) {
+        return value instanceof NegativeResult result && result.isError() ? errorTtlNanos : responseTtlNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+        return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
@@ -0,0 +1,306 @@
+package co.tyrell.omdb_mcp_server.cache;
+
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbMovie;
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbSearchResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compact binary encoding of cached OMDB responses.
+ * Each value starts with a type tag followed by its fields in a fixed order. Strings are written
+ * as a varint length (0 for null, otherwise length + 1) followed by their UTF-8 bytes.
+ * Movies that carry the OMDB JSON they were read from, which they only do with
+ * {@code omdb.api.keep-raw-json}, are written with their own tag and the JSON after the fields, so
+ * values written without the JSON still decode.
+ */
+public final class OmdbBinaryCodec {
+
+    private static final byte MOVIE = 1;
+    private static final byte SEARCH_RESPONSE = 2;
+    private static final byte MOVIE_WITH_JSON = 3;
+
+    private OmdbBinaryCodec() {
+    }
+
+    /**
+     * Whether the value can be encoded by this codec
+     */
+    public static boolean supports(Object value) {
+        return value instanceof OmdbMovie || value instanceof OmdbSearchResponse;
+    }
+
+    /**
+     * Encode a supported value
+     *
+     * @throws IllegalArgumentException if the value type is not supported
+     */
+    public static byte[] encode(Object value) {
+        Output out = new Output(false);
+        writeValue(out, value);
+        return out.toByteArray();
+    }
+
+    /**
+     * Size in bytes of the encoding of a supported value, computed without encoding it
+     *
+     * @throws IllegalArgumentException if the value type is not supported
+     */
+    public static int encodedSize(Object value) {
+        Output out = new Output(true);
+        writeValue(out, value);
+        return out.size();
+    }
+
+    /**
+     * Decode a value previously produced by {@link #encode(Object)}
+     *
+     * @throws IllegalArgumentException if the data does not start with a known type tag
+     */
+    public static Object decode(byte[] data) {
+        ByteBuffer in = ByteBuffer.wrap(data);
+        byte tag = in.get();
+        return switch (tag) {
+            case MOVIE -> readMovie(in);
+            case MOVIE_WITH_JSON -> {
+                OmdbMovie movie = readMovie(in);
+                movie.setRawJson(readString(in));
+                yield movie;
+            }
+            case SEARCH_RESPONSE -> readSearchResponse(in);
+            default -> throw new IllegalArgumentException("Unknown cache value type tag: " + tag);
+        };
+    }
+
+    private static void writeValue(Output out, Object value) {
+        if (value instanceof OmdbMovie movie) {
+            out.write(movie.getRawJson() != null ? MOVIE_WITH_JSON : MOVIE);
+            writeMovie(out, movie);
+            if (movie.getRawJson() != null) {
+                out.writeString(movie.getRawJson());
+            }
+        } else if (value instanceof OmdbSearchResponse searchResponse) {
+            out.write(SEARCH_RESPONSE);
+            writeSearchResponse(out, searchResponse);
+        } else {
+            throw new IllegalArgumentException("Unsupported cache value type: " + (value != null ? value.getClass().getName() : "null"));
+        }
+    }
+
+    private static void writeMovie(Output out, OmdbMovie movie) {
+        out.writeString(movie.getTitle());
+        out.writeString(movie.getYear());
+        out.writeString(movie.getRated());
+        out.writeString(movie.getReleased());
+        out.writeString(movie.getRuntime());
+        out.writeString(movie.getGenre());
+        out.writeString(movie.getDirector());
+        out.writeString(movie.getWriter());
+        out.writeString(movie.getActors());
+        out.writeString(movie.getPlot());
+        out.writeString(movie.getLanguage());
+        out.writeString(movie.getCountry());
+        out.writeString(movie.getAwards());
+        out.writeString(movie.getPoster());
+        out.writeString(movie.getMetascore());
+        out.writeString(movie.getImdbRating());
+        out.writeString(movie.getImdbVotes());
+        out.writeString(movie.getImdbId());
+        out.writeString(movie.getType());
+        out.writeString(movie.getDvd());
+        out.writeString(movie.getBoxOffice());
+        out.writeString(movie.getProduction());
+        out.writeString(movie.getWebsite());
+        out.writeString(movie.getResponse());
+        out.writeString(movie.getError());
+
+        OmdbMovie.Rating[] ratings = movie.getRatings();
+        out.writeVarInt(ratings == null ? 0 : ratings.length + 1);
+        if (ratings != null) {
+            for (OmdbMovie.Rating rating : ratings) {
+                out.writeString(rating.getSource());
+                out.writeString(rating.getValue());
+            }
+        }
+    }
+
+    private static OmdbMovie readMovie(ByteBuffer in) {
+        OmdbMovie movie = new OmdbMovie();
+        movie.setTitle(readString(in));
+        movie.setYear(readString(in));
+        movie.setRated(readString(in));
+        movie.setReleased(readString(in));
+        movie.setRuntime(readString(in));
+        movie.setGenre(readString(in));
+        movie.setDirector(readString(in));
+        movie.setWriter(readString(in));
+        movie.setActors(readString(in));
+        movie.setPlot(readString(in));
+        movie.setLanguage(readString(in));
+        movie.setCountry(readString(in));
+        movie.setAwards(readString(in));
+        movie.setPoster(readString(in));
+        movie.setMetascore(readString(in));
+        movie.setImdbRating(readString(in));
+        movie.setImdbVotes(readString(in));
+        movie.setImdbId(readString(in));
+        movie.setType(readString(in));
+        movie.setDvd(readString(in));
+        movie.setBoxOffice(readString(in));
+        movie.setProduction(readString(in));
+        movie.setWebsite(readString(in));
+        movie.setResponse(readString(in));
+        movie.setError(readString(in));
+
+        int ratingCount = readVarInt(in);
+        if (ratingCount > 0) {
+            OmdbMovie.Rating[] ratings = new OmdbMovie.Rating[ratingCount - 1];
+            for (int i = 0; i < ratings.length; i++) {
+                OmdbMovie.Rating rating = new OmdbMovie.Rating();
+                rating.setSource(readString(in));
+                rating.setValue(readString(in));
+                ratings[i] = rating;
+            }
+            movie.setRatings(ratings);
+        }
+        return movie;
+    }
+
+    private static void writeSearchResponse(Output out, OmdbSearchResponse searchResponse) {
+        out.writeString(searchResponse.getTotalResults());
+        out.writeString(searchResponse.getResponse());
+        out.writeString(searchResponse.getError());
+
+        OmdbSearchResponse.SearchResult[] results = searchResponse.getSearch();
+        out.writeVarInt(results == null ? 0 : results.length + 1);
+        if (results != null) {
+            for (OmdbSearchResponse.SearchResult result : results) {
+                out.writeString(result.getTitle());
+                out.writeString(result.getYear());
+                out.writeString(result.getImdbId());
+                out.writeString(result.getType());
+                out.writeString(result.getPoster());
+            }
+        }
+    }
+
+    private static OmdbSearchResponse readSearchResponse(ByteBuffer in) {
+        OmdbSearchResponse searchResponse = new OmdbSearchResponse();
+        searchResponse.setTotalResults(readString(in));
+        searchResponse.setResponse(readString(in));
+        searchResponse.setError(readString(in));
+
+        int resultCount = readVarInt(in);
+        if (resultCount > 0) {
+            OmdbSearchResponse.SearchResult[] results = new OmdbSearchResponse.SearchResult[resultCount - 1];
+            for (int i = 0; i < results.length; i++) {
+                OmdbSearchResponse.SearchResult result = new OmdbSearchResponse.SearchResult();
+                result.setTitle(readString(in));
+                result.setYear(readString(in));
+                result.setImdbId(readString(in));
+                result.setType(readString(in));
+                result.setPoster(readString(in));
+                results[i] = result;
+            }
+            searchResponse.setSearch(results);
+        }
+        return searchResponse;
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = readVarInt(in);
+        if (length == 0) {
+            return null;
+        }
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length - 1, StandardCharsets.UTF_8);
+        in.position(in.position() + length - 1);
+        return value;
+    }
+
+    private static int readVarInt(ByteBuffer in) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    /**
+     * Growable output buffer with varint and string helpers.
+     * In count-only mode nothing is buffered and only the encoded size is tracked.
+     */
+    private static final class Output extends ByteArrayOutputStream {
+
+        private final boolean countOnly;
+
+        Output(boolean countOnly) {
+            super(countOnly ? 0 : 512);
+            this.countOnly = countOnly;
+        }
+
+        @Override
+        public void write(int b) {
+            if (countOnly) {
+                count++;
+            } else {
+                super.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            if (countOnly) {
+                count += len;
+            } else {
+                super.write(b, off, len);
+            }
+        }
+
+        void writeVarInt(int value) {
+            while ((value & ~0x7F) != 0) {
+                write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            write(value);
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            if (countOnly) {
+                int length = utf8Length(value);
+                writeVarInt(length + 1);
+                count += length;
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length + 1);
+            write(bytes, 0, bytes.length);
+        }
+
+        private static int utf8Length(String value) {
+            int length = 0;
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    length++;
+                } else if (c < 0x800) {
+                    length += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    length += 4;
+                    i++;
+                } else {
+                    length += 3;
+                }
+            }
+            return length;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package co.tyrell.omdb_mcp_server.cache;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Cache key describing an OMDB API call.
+ * Keys carry everything needed to repeat the call, so cache entries can be refreshed in the background.
+ * <p>
+ * Components are normalized on construction (Unicode NFKC, lower case, trimmed, inner whitespace
+ * collapsed, blank as absent), so "The Matrix", " the  matrix" and "THE MATRIX" share one entry.
+ * Keys are immutable and their hash is computed once. Search keys also carry the result page,
+ * so every page of a search is cached on its own.
+ */
+public final class OmdbCacheKey {
+
+    public enum Operation {
+        SEARCH,
+        TITLE,
+        IMDB_ID
+    }
+
+    private static final String DEFAULT_PLOT = "full";
+    private static final int FIRST_PAGE = 1;
+
+    private final Operation operation;
+    private final String query;
+    private final String year;
+    private final String variant;
+    private final int page;
+    private final int hash;
+    private String text;
+
+    public OmdbCacheKey(Operation operation, String query, String year, String variant) {
+        this(operation, query, year, variant, FIRST_PAGE);
+    }
+
+    public OmdbCacheKey(Operation operation, String query, String year, String variant, int page) {
+        this.operation = Objects.requireNonNull(operation, "operation");
+        this.query = normalize(query);
+        this.year = normalize(year);
+        this.variant = normalize(variant);
+        this.page = Math.max(page, FIRST_PAGE);
+        this.hash = computeHash();
+    }
+
+    public static OmdbCacheKey search(String title, String year, String type) {
+        return search(title, year, type, null);
+    }
+
+    /**
+     * Key for one page of search results; a missing page is the first page
+     */
+    public static OmdbCacheKey search(String title, String year, String type, Integer page) {
+        return new OmdbCacheKey(Operation.SEARCH, title, year, type, page != null ? page : FIRST_PAGE);
+    }
+
+    public static OmdbCacheKey title(String title, String year, String plot) {
+        return new OmdbCacheKey(Operation.TITLE, title, year, plotOrDefault(plot));
+    }
+
+    public static OmdbCacheKey imdbId(String imdbId, String plot) {
+        return new OmdbCacheKey(Operation.IMDB_ID, imdbId, null, plotOrDefault(plot));
+    }
+
+    /**
+     * Parse a key from its {@link #toString()} form
+     *
+     * @throws IllegalArgumentException if the text is not a key
+     */
+    public static OmdbCacheKey parse(String text) {
+        List<String> components = new ArrayList<>(5);
+        StringBuilder component = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\' && i + 1 < text.length()) {
+                component.append(text.charAt(++i));
+            } else if (c == '|') {
+                components.add(component.toString());
+                component.setLength(0);
+            } else {
+                component.append(c);
+            }
+        }
+        components.add(component.toString());
+
+        if (components.size() != 4 && components.size() != 5) {
+            throw new IllegalArgumentException("Not an OMDB cache key: " + text);
+        }
+        try {
+            Operation operation = Operation.valueOf(components.get(0));
+            int page = components.size() == 5 ? Integer.parseInt(components.get(4)) : FIRST_PAGE;
+            return new OmdbCacheKey(operation, components.get(1), components.get(2), components.get(3), page);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Not an OMDB cache key: " + text, e);
+        }
+    }
+
+    public Operation operation() {
+        return operation;
+    }
+
+    public String query() {
+        return query;
+    }
+
+    public String year() {
+        return year;
+    }
+
+    public String variant() {
+        return variant;
+    }
+
+    public int page() {
+        return page;
+    }
+
+    /**
+     * Normalize a key component. Values that are already in normal form are returned as is.
+     */
+    static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        if (isNormalized(value)) {
+            return value.isEmpty() ? null : value;
+        }
+
+        String composed = Normalizer.normalize(value, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder normalized = new StringBuilder(composed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+                pendingSpace = normalized.length() > 0;
+            } else {
+                if (pendingSpace) {
+                    normalized.append(' ');
+                    pendingSpace = false;
+                }
+                normalized.append(c);
+            }
+        }
+        return normalized.length() == 0 ? null : normalized.toString();
+    }
+
+    /**
+     * Fast check for plain lower-case ASCII with single inner spaces, which needs no normalization
+     */
+    private static boolean isNormalized(String value) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80 || (c >= 'A' && c <= 'Z')) {
+                return false;
+            }
+            if (c <= ' ' && (c != ' ' || i == 0 || i == length - 1 || value.charAt(i - 1) == ' ')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String plotOrDefault(String plot) {
+        String normalized = normalize(plot);
+        return normalized != null ? normalized : DEFAULT_PLOT;
+    }
+
+    private int computeHash() {
+        int result = operation.ordinal();
+        result = 31 * result + Objects.hashCode(query);
+        result = 31 * result + Objects.hashCode(year);
+        result = 31 * result + Objects.hashCode(variant);
+        result = 31 * result + page;
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof OmdbCacheKey other
+                && hash == other.hash
+                && operation == other.operation
+                && Objects.equals(query, other.query)
+                && Objects.equals(year, other.year)
+                && Objects.equals(variant, other.variant)
+                && page == other.page;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    private static String escape(String component) {
+        if (component == null) {
+            return "";
+        }
+        if (component.indexOf('|') < 0 && component.indexOf('\\') < 0) {
+            return component;
+        }
+        return component.replace("\\", "\\\\").replace("|", "\\|");
+    }
+
+    /**
+     * Stable, unambiguous textual form, also used as the key of the persistent disk cache.
+     * The page is only written from the second page on, so first-page keys keep their existing form.
+     */
+    @Override
+    public String toString() {
+        String result = text;
+        if (result == null) {
+            result = operation + "|" + escape(query) + "|" + escape(year) + "|" + escape(variant);
+            if (page > FIRST_PAGE) {
+                result += "|" + page;
+            }
+            text = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,49 @@
+package co.tyrell.omdb_mcp_server.cache;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKeyGenerator;
+
+import java.lang.reflect.Method;
+
+/**
+ * Builds {@link OmdbCacheKey}s for the cached {@code OmdbService} lookups directly from the method
+ * arguments, without evaluating a SpEL expression per call. Other methods fall back to the default
+ * Spring key generation. Generated OMDB keys are passed to the {@link HotKeyRecorder}, if any.
+ */
+public class OmdbCacheKeyGenerator implements KeyGenerator {
+
+    private final HotKeyRecorder hotKeyRecorder;
+
+    public OmdbCacheKeyGenerator() {
+        this(null);
+    }
+
+    public OmdbCacheKeyGenerator(HotKeyRecorder hotKeyRecorder) {
+        this.hotKeyRecorder = hotKeyRecorder;
+    }
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        OmdbCacheKey key = switch (method.getName()) {
+            case "searchMovies" -> OmdbCacheKey.search(arg(params, 0), arg(params, 1), arg(params, 2), intArg(params, 3));
+            case "getMovieByTitle" -> OmdbCacheKey.title(arg(params, 0), arg(params, 1), arg(params, 2));
+            case "getMovieByImdbId" -> OmdbCacheKey.imdbId(arg(params, 0), arg(params, 1));
+            default -> null;
+        };
+        if (key == null) {
+            return SimpleKeyGenerator.generateKey(params);
+        }
+        if (hotKeyRecorder != null) {
+            hotKeyRecorder.record(key);
+        }
+        return key;
+    }
+
+    private static String arg(Object[] params, int index) {
+        return index < params.length && params[index] != null ? params[index].toString() : null;
+    }
+
+    private static Integer intArg(Object[] params, int index) {
+        return index < params.length && params[index] instanceof Number number ? number.intValue() : null;
+    }
+}
@@ -0,0 +1,82 @@
+package co.tyrell.omdb_mcp_server.cache;
+
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbMovie;
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbSearchResponse;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Cache loader that refreshes OMDB cache entries in the background.
+ * Initial loads are left to the {@code @Cacheable} service methods, so this loader only handles reloads.
+ * A reload that fails, or that turns a successful response into an unsuccessful one, keeps the
+ * current value, which then continues to be served until it expires. Reloaded values are converted
+ * to the cache's store form, as they bypass the Spring cache, and handed to the refresh listener so
+ * they can be written to any other tier of the cache.
+ */
+@Slf4j
+public class OmdbCacheLoader implements AsyncCacheLoader<Object, Object> {
+
+    private final Function<OmdbCacheKey, Mono<?>> fetcher;
+    private final UnaryOperator<Object> toStoreValue;
+    private final BiConsumer<Object, Object> refreshListener;
+
+    public OmdbCacheLoader(Function<OmdbCacheKey, Mono<?>> fetcher) {
+        this(fetcher, UnaryOperator.identity());
+    }
+
+    public OmdbCacheLoader(Function<OmdbCacheKey, Mono<?>> fetcher, UnaryOperator<Object> toStoreValue) {
+        this(fetcher, toStoreValue, (key, value) -> { });
+    }
+
+    public OmdbCacheLoader(Function<OmdbCacheKey, Mono<?>> fetcher, UnaryOperator<Object> toStoreValue,
+                           BiConsumer<Object, Object> refreshListener) {
+        this.fetcher = fetcher;
+        this.toStoreValue = toStoreValue;
+        this.refreshListener = refreshListener;
+    }
+
+    @Override
+    public CompletableFuture<Object> asyncLoad(Object key, Executor executor) {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public CompletableFuture<Object> asyncReload(Object key, Object oldValue, Executor executor) {
+        if (!(key instanceof OmdbCacheKey cacheKey)) {
+            return CompletableFuture.completedFuture(oldValue);
+        }
+        log.debug("Refreshing cache entry: {}", cacheKey);
+
+        return fetcher.apply(cacheKey)
+                .<Object>map(value -> {
+                    if (!isSuccessful(value) && isSuccessful(oldValue)) {
+                        return oldValue;
+                    }
+                    refreshListener.accept(cacheKey, value);
+                    return toStoreValue.apply(value);
+                })
+                .defaultIfEmpty(oldValue)
+                .doOnError(error -> log.warn("Failed to refresh cache entry {}, keeping stale value: {}", cacheKey, error.getMessage()))
+                .toFuture();
+    }
+
+    private static boolean isSuccessful(Object value) {
+        if (value instanceof OmdbMovie movie) {
+            return movie.isSuccessful();
+        }
+        if (value instanceof CompactMovie compactMovie) {
+            return compactMovie.isSuccessful();
+        }
+        if (value instanceof OmdbSearchResponse searchResponse) {
+            return searchResponse.isSuccessful();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,25 @@
+package co.tyrell.omdb_mcp_server.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * Weighs cache entries by their estimated size in bytes, based on the {@link OmdbBinaryCodec}
+ * encoding of the value, which includes any OMDB JSON a movie keeps, plus a fixed per-entry overhead
+ * for the key and cache bookkeeping. Compact movies count their estimated heap size.
+ */
+public class OmdbCacheWeigher implements Weigher<Object, Object> {
+
+    static final int ENTRY_OVERHEAD = 128;
+    static final int UNKNOWN_VALUE_WEIGHT = 1024;
+
+    @Override
+    public int weigh(Object key, Object value) {
+        int valueWeight;
+        if (value instanceof CompactMovie compactMovie) {
+            valueWeight = compactMovie.estimatedSize();
+        } else {
+            valueWeight = OmdbBinaryCodec.supports(value) ? OmdbBinaryCodec.encodedSize(value) : UNKNOWN_VALUE_WEIGHT;
+        }
+        return ENTRY_OVERHEAD + 2 * String.valueOf(key).length() + valueWeight;
+    }
+}
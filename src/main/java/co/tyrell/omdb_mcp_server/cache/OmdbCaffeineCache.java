@@ -0,0 +1,87 @@
+package co.tyrell.omdb_mcp_server.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Caffeine cache that can keep movies in their {@link CompactMovie} form.
+ * Values are compacted when stored and rebuilt when read, on the synchronous and async paths alike,
+ * so callers only ever see {@code OmdbMovie} instances. Values put into the cache or loaded by a
+ * background refresh are passed to the write listener with their key.
+ */
+public class OmdbCaffeineCache extends CaffeineCache {
+
+    private final boolean compactValues;
+    private final BiConsumer<Object, Object> writeListener;
+
+    public OmdbCaffeineCache(String name, AsyncCache<Object, Object> cache, boolean allowNullValues, boolean compactValues) {
+        this(name, cache, allowNullValues, compactValues, (key, value) -> { });
+    }
+
+    public OmdbCaffeineCache(String name, AsyncCache<Object, Object> cache, boolean allowNullValues, boolean compactValues,
+                             BiConsumer<Object, Object> writeListener) {
+        super(name, cache, allowNullValues);
+        this.compactValues = compactValues;
+        this.writeListener = writeListener;
+    }
+
+    public boolean isCompactValues() {
+        return compactValues;
+    }
+
+    /**
+     * Called with the full value a background refresh loaded for the key, before the refresh stores
+     * it in memory
+     */
+    public void refreshed(Object key, Object value) {
+        writeListener.accept(key, value);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        writeListener.accept(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = super.putIfAbsent(key, value);
+        if (existing == null) {
+            writeListener.accept(key, value);
+        }
+        return existing;
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        CompletableFuture<?> result = super.retrieve(key);
+        // With null values allowed, the result already went through fromStoreValue
+        return result != null && compactValues && !isAllowNullValues() ? result.thenApply(CompactMovie::expand) : result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        if (!compactValues || isAllowNullValues()) {
+            return super.retrieve(key, valueLoader);
+        }
+        return (CompletableFuture<T>) getAsyncCache()
+                .get(key, (k, executor) -> valueLoader.get().thenApply(this::toStoreValue))
+                .thenApply(this::fromStoreValue);
+    }
+
+    @Override
+    protected Object toStoreValue(Object userValue) {
+        Object storeValue = super.toStoreValue(userValue);
+        return compactValues ? CompactMovie.compact(storeValue) : storeValue;
+    }
+
+    @Override
+    protected Object fromStoreValue(Object storeValue) {
+        return super.fromStoreValue(compactValues ? CompactMovie.expand(storeValue) : storeValue);
+    }
+}
@@ -0,0 +1,48 @@
+package co.tyrell.omdb_mcp_server.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * Caffeine cache manager whose async caches keep movies compact for the configured cache names.
+ * Compact cache names must be set before caches are created or registered. Write listeners hear of
+ * every value written to any of the caches, including background refreshes.
+ */
+public class OmdbCaffeineCacheManager extends CaffeineCacheManager {
+
+    private Set<String> compactCacheNames = Set.of();
+    private final List<BiConsumer<Object, Object>> writeListeners = new CopyOnWriteArrayList<>();
+
+    public void setCompactCacheNames(Collection<String> compactCacheNames) {
+        this.compactCacheNames = Set.copyOf(compactCacheNames);
+    }
+
+    /**
+     * Register a listener called with the key and value of each write, after the value is stored
+     */
+    public void addWriteListener(BiConsumer<Object, Object> listener) {
+        writeListeners.add(listener);
+    }
+
+    protected boolean isCompactValues(String name) {
+        return compactCacheNames.contains(name);
+    }
+
+    protected void valueWritten(Object key, Object value) {
+        for (BiConsumer<Object, Object> listener : writeListeners) {
+            listener.accept(key, value);
+        }
+    }
+
+    @Override
+    protected Cache adaptCaffeineCache(String name, AsyncCache<Object, Object> cache) {
+        return new OmdbCaffeineCache(name, cache, isAllowNullValues(), isCompactValues(name), this::valueWritten);
+    }
+}
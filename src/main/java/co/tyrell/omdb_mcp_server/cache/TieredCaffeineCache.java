@@ -0,0 +1,120 @@
+package co.tyrell.omdb_mcp_server.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiConsumer;
+
+/**
+ * Caffeine cache layered over a persistent {@link DiskCacheStore}.
+ * Writes, including background refreshes, go to both tiers; misses in memory fall through to disk and are promoted back into memory.
+ * The disk tier always stores the full value, whether or not memory keeps it compact.
+ * <p>
+ * Disk I/O never runs on the calling thread of the async API, which is usually an event loop: async
+ * misses are read from disk on the reader executor, and writes are queued in order on the writer executor.
+ */
+@Slf4j
+public class TieredCaffeineCache extends OmdbCaffeineCache {
+
+    private final DiskCacheStore diskStore;
+    private final Executor diskReader;
+    private final Executor diskWriter;
+
+    public TieredCaffeineCache(String name, AsyncCache<Object, Object> cache, boolean allowNullValues, boolean compactValues,
+                               BiConsumer<Object, Object> writeListener, DiskCacheStore diskStore,
+                               Executor diskReader, Executor diskWriter) {
+        super(name, cache, allowNullValues, compactValues, writeListener);
+        this.diskStore = diskStore;
+        this.diskReader = diskReader;
+        this.diskWriter = diskWriter;
+    }
+
+    public DiskCacheStore getDiskStore() {
+        return diskStore;
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        CompletableFuture<?> result = super.retrieve(key);
+        if (result != null || !diskStore.contains(key)) {
+            return result;
+        }
+        return CompletableFuture.supplyAsync(() -> loadFromDisk(key), diskReader);
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = super.lookup(key);
+        return value != null ? value : loadFromDisk(key);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        write(() -> diskStore.put(key, value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = super.putIfAbsent(key, value);
+        if (existing == null) {
+            write(() -> diskStore.put(key, value));
+        }
+        return existing;
+    }
+
+    @Override
+    public void refreshed(Object key, Object value) {
+        write(() -> diskStore.put(key, value));
+        super.refreshed(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        super.evict(key);
+        write(() -> diskStore.evict(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        write(() -> diskStore.evict(key));
+        return super.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        write(diskStore::clear);
+    }
+
+    @Override
+    public boolean invalidate() {
+        write(diskStore::clear);
+        return super.invalidate();
+    }
+
+    private void write(Runnable operation) {
+        try {
+            diskWriter.execute(() -> {
+                try {
+                    operation.run();
+                } catch (RuntimeException e) {
+                    log.warn("Failed to update disk cache store for cache {}: {}", getName(), e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Disk cache writer is shut down, skipping write for cache {}", getName());
+        }
+    }
+
+    private Object loadFromDisk(Object key) {
+        Object value = diskStore.get(key);
+        if (value != null) {
+            super.put(key, value);
+        }
+        return value;
+    }
+}
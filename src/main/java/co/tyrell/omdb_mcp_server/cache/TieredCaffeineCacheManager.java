@@ -0,0 +1,91 @@
+package co.tyrell.omdb_mcp_server.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caffeine cache manager that backs the configured async caches with a {@link DiskCacheStore}
+ * under a common directory, so cached OMDB responses survive restarts.
+ * Disk reads run on Reactor's bounded elastic scheduler, and all disk writes, including compactions,
+ * on one background writer thread, which drains its queue before the stores are closed.
+ */
+@Slf4j
+public class TieredCaffeineCacheManager extends OmdbCaffeineCacheManager implements DisposableBean {
+
+    private final Path directory;
+    private final Duration diskExpireAfterWrite;
+    private final long diskMaximumBytes;
+    private final Set<String> diskCacheNames;
+    private final Map<String, DiskCacheStore> diskStores = new ConcurrentHashMap<>();
+    private final Executor diskReader = command -> Schedulers.boundedElastic().schedule(command);
+    private final ExecutorService diskWriter = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "disk-cache-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TieredCaffeineCacheManager(Path directory, Duration diskExpireAfterWrite, long diskMaximumBytes,
+                                      Collection<String> diskCacheNames) {
+        this.directory = directory;
+        this.diskExpireAfterWrite = diskExpireAfterWrite;
+        this.diskMaximumBytes = diskMaximumBytes;
+        this.diskCacheNames = Set.copyOf(diskCacheNames);
+    }
+
+    @Override
+    protected Cache adaptCaffeineCache(String name, AsyncCache<Object, Object> cache) {
+        if (!diskCacheNames.contains(name)) {
+            return super.adaptCaffeineCache(name, cache);
+        }
+        DiskCacheStore diskStore = diskStores.computeIfAbsent(name, this::openDiskStore);
+        if (diskStore == null) {
+            return super.adaptCaffeineCache(name, cache);
+        }
+        return new TieredCaffeineCache(name, cache, isAllowNullValues(), isCompactValues(name), this::valueWritten, diskStore,
+                diskReader, diskWriter);
+    }
+
+    @Override
+    public void destroy() {
+        diskWriter.shutdown();
+        try {
+            if (!diskWriter.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Disk cache writer did not finish its pending writes before shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        diskStores.forEach((name, diskStore) -> {
+            try {
+                diskStore.close();
+            } catch (IOException e) {
+                log.warn("Failed to close disk cache store for cache {}: {}", name, e.getMessage());
+            }
+        });
+        diskStores.clear();
+    }
+
+    private DiskCacheStore openDiskStore(String name) {
+        try {
+            return new DiskCacheStore(directory.resolve(name + ".log"), diskExpireAfterWrite, diskMaximumBytes);
+        } catch (IOException e) {
+            log.error("Failed to open disk cache store for cache {}, continuing with memory only", name, e);
+            return null;
+        }
+    }
+}
@@ -1,15 +1,32 @@
 package co.tyrell.omdb_mcp_server.config;
 
+import co.tyrell.omdb_mcp_server.cache.CompactMovie;
+import co.tyrell.omdb_mcp_server.cache.HotKeyRecorder;
+import co.tyrell.omdb_mcp_server.cache.NegativeResultExpiry;
+import co.tyrell.omdb_mcp_server.cache.OmdbCacheKeyGenerator;
+import co.tyrell.omdb_mcp_server.cache.OmdbCacheLoader;
+import co.tyrell.omdb_mcp_server.cache.OmdbCacheWeigher;
+import co.tyrell.omdb_mcp_server.cache.OmdbCaffeineCache;
+import co.tyrell.omdb_mcp_server.cache.OmdbCaffeineCacheManager;
+import co.tyrell.omdb_mcp_server.cache.TieredCaffeineCacheManager;
+import co.tyrell.omdb_mcp_server.service.OmdbService;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 import lombok.Data;
 
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.List;
+import java.util.function.UnaryOperator;
 
 /**
  * Cache configuration for OMDB API responses
@@ -24,29 +41,239 @@ public class CacheConfig {
     private Duration expireAfterWrite = Duration.ofHours(1);
     private long maximumSize = 1000;
     private boolean recordStats = true;
+    private boolean compactValues = true;   // Keep cached movies in their compact form
+    private Disk disk = new Disk();
+    private Refresh refresh = new Refresh();
+    private Negative negative = new Negative();
+    private Stale stale = new Stale();
+    private Warmup warmup = new Warmup();
+    private Render render = new Render();
+    
+    // Per-cache overrides, e.g. cache.movie-by-imdb-id.maximum-weight=64MB
+    private CacheSpec movieSearch = new CacheSpec();
+    private CacheSpec movieByTitle = new CacheSpec();
+    private CacheSpec movieByImdbId = new CacheSpec();
     
     public static final String MOVIE_SEARCH_CACHE = "movieSearch";
     public static final String MOVIE_BY_TITLE_CACHE = "movieByTitle";
     public static final String MOVIE_BY_IMDB_ID_CACHE = "movieByImdbId";
+    public static final String MOVIE_NEGATIVE_CACHE = "movieNegative";
+    public static final String MOVIE_TITLE_ALIAS_CACHE = "movieTitleAlias";
+    public static final String MOVIE_STALE_CACHE = "movieStale";
+    public static final String KEY_GENERATOR = "omdbCacheKeyGenerator";
+    
+    private static final List<String> RESPONSE_CACHES = List.of(
+        MOVIE_SEARCH_CACHE,
+        MOVIE_BY_TITLE_CACHE,
+        MOVIE_BY_IMDB_ID_CACHE
+    );
+    
+    private static final List<String> MOVIE_CACHES = List.of(
+        MOVIE_BY_TITLE_CACHE,
+        MOVIE_BY_IMDB_ID_CACHE,
+        MOVIE_STALE_CACHE
+    );
     
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    public CacheManager cacheManager(ObjectProvider<OmdbService> omdbService) {
+        OmdbCaffeineCacheManager cacheManager = disk.isEnabled()
+                ? new TieredCaffeineCacheManager(Path.of(disk.getDirectory()), disk.getExpireAfterWrite(), disk.getMaximumSize().toBytes(), RESPONSE_CACHES)
+                : new OmdbCaffeineCacheManager();
+        cacheManager.setCompactCacheNames(compactValues ? MOVIE_CACHES : List.of()); // Before any cache is created
         cacheManager.setCaffeine(caffeineCacheBuilder());
         cacheManager.setAsyncCacheMode(true); // Enable async cache mode for reactive types
-        cacheManager.setCacheNames(java.util.List.of(
-            MOVIE_SEARCH_CACHE,
-            MOVIE_BY_TITLE_CACHE,
-            MOVIE_BY_IMDB_ID_CACHE
-        ));
+        cacheManager.setAllowNullValues(false); // Reactive results are never null, so async lookups return the raw value
+        cacheManager.setCacheNames(RESPONSE_CACHES);
+        
+        // Replace the common caches with ones built from their own settings
+        cacheManager.registerCustomCache(MOVIE_SEARCH_CACHE, buildCache(movieSearch, refreshLoader(cacheManager, MOVIE_SEARCH_CACHE, omdbService)));
+        cacheManager.registerCustomCache(MOVIE_BY_TITLE_CACHE, buildCache(movieByTitle, refreshLoader(cacheManager, MOVIE_BY_TITLE_CACHE, omdbService)));
+        cacheManager.registerCustomCache(MOVIE_BY_IMDB_ID_CACHE, buildCache(movieByImdbId, refreshLoader(cacheManager, MOVIE_BY_IMDB_ID_CACHE, omdbService)));
+        cacheManager.registerCustomCache(MOVIE_NEGATIVE_CACHE, buildNegativeCache());
+        cacheManager.registerCustomCache(MOVIE_TITLE_ALIAS_CACHE, buildAliasCache());
+        cacheManager.registerCustomCache(MOVIE_STALE_CACHE, buildStaleCache());
         return cacheManager;
     }
     
+    @Bean(KEY_GENERATOR)
+    public KeyGenerator omdbCacheKeyGenerator(HotKeyRecorder hotKeyRecorder) {
+        return new OmdbCacheKeyGenerator(hotKeyRecorder);
+    }
+    
+    /**
+     * Records requested keys for the next start's warm-up; tracks four times as many keys as are kept,
+     * and nothing unless warm-up and access recording are both enabled
+     */
+    @Bean
+    public HotKeyRecorder hotKeyRecorder() {
+        return new HotKeyRecorder(warmup.isEnabled() && warmup.isRecordAccess() ? warmup.getMaxKeys() * 4 : 0);
+    }
+    
     @Bean
     public Caffeine<Object, Object> caffeineCacheBuilder() {
-        return Caffeine.newBuilder()
-                .expireAfterWrite(expireAfterWrite)
-                .maximumSize(maximumSize)
-                .recordStats();
+        return caffeineCacheBuilder(new CacheSpec(), expireAfterWrite);
+    }
+    
+    /**
+     * Loader for background refreshes of the named cache. Refreshed values bypass the Spring cache, so they
+     * are converted to its store form here and handed to the cache for its disk tier.
+     */
+    private AsyncCacheLoader<Object, Object> refreshLoader(CacheManager cacheManager, String cacheName,
+                                                           ObjectProvider<OmdbService> omdbService) {
+        UnaryOperator<Object> toStoreValue = compactValues && MOVIE_CACHES.contains(cacheName)
+                ? CompactMovie::compact
+                : UnaryOperator.identity();
+        return new OmdbCacheLoader(key -> omdbService.getObject().fetch(key), toStoreValue, (key, value) -> {
+            if (cacheManager.getCache(cacheName) instanceof OmdbCaffeineCache cache) {
+                cache.refreshed(key, value);
+            }
+        });
+    }
+    
+    /**
+     * Build a cache from its settings. With refresh enabled, entries are reloaded in the background once
+     * they reach the refresh point of their TTL, and are served stale for up to the stale window past
+     * their TTL while a reload is pending or failing.
+     */
+    private AsyncCache<Object, Object> buildCache(CacheSpec spec, AsyncCacheLoader<Object, Object> refreshLoader) {
+        Duration timeToLive = spec.getExpireAfterWrite() != null ? spec.getExpireAfterWrite() : expireAfterWrite;
+        if (!refresh.isEnabled()) {
+            return caffeineCacheBuilder(spec, timeToLive).buildAsync();
+        }
+        
+        return caffeineCacheBuilder(spec, timeToLive.plus(refresh.getStaleWindow()))
+                .refreshAfterWrite(Duration.ofMillis((long) (timeToLive.toMillis() * refresh.getAheadFraction())))
+                .buildAsync(refreshLoader);
+    }
+    
+    /**
+     * Build the cache of unsuccessful lookups, kept apart from the response caches with its own short TTLs
+     */
+    private AsyncCache<Object, Object> buildNegativeCache() {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .expireAfter(new NegativeResultExpiry(negative.getExpireAfterWrite(), negative.getErrorExpireAfterWrite()))
+                .maximumSize(negative.getMaximumSize());
+        
+        if (recordStats) {
+            builder.recordStats();
+        }
+        return builder.buildAsync();
+    }
+    
+    /**
+     * Build the index of title lookups to the IMDB ID they resolved to, living as long as the IMDB ID entries
+     */
+    private AsyncCache<Object, Object> buildAliasCache() {
+        Duration timeToLive = movieByImdbId.getExpireAfterWrite() != null ? movieByImdbId.getExpireAfterWrite() : expireAfterWrite;
+        return caffeineCacheBuilder(new CacheSpec(), timeToLive).buildAsync();
+    }
+    
+    /**
+     * Build the cache of last known good responses, bounded by entry count
+     */
+    private AsyncCache<Object, Object> buildStaleCache() {
+        CacheSpec spec = new CacheSpec();
+        spec.setMaximumSize(stale.getMaximumSize());
+        return caffeineCacheBuilder(spec, stale.getExpireAfterWrite()).buildAsync();
+    }
+    
+    /**
+     * Build a Caffeine spec from the per-cache settings, falling back to the common settings
+     */
+    private Caffeine<Object, Object> caffeineCacheBuilder(CacheSpec spec, Duration expiry) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .expireAfterWrite(expiry);
+        
+        if (spec.getMaximumWeight() != null) {
+            builder.maximumWeight(spec.getMaximumWeight().toBytes())
+                    .weigher(new OmdbCacheWeigher());
+        } else {
+            builder.maximumSize(spec.getMaximumSize() != null ? spec.getMaximumSize() : maximumSize);
+        }
+        
+        if (recordStats) {
+            builder.recordStats();
+        }
+        return builder;
+    }
+    
+    /**
+     * Settings for an individual cache. Unset values inherit the common cache settings.
+     * When a maximum weight is set the cache is bounded by the estimated size of its entries
+     * in bytes instead of by entry count.
+     */
+    @Data
+    public static class CacheSpec {
+        private Duration expireAfterWrite;
+        private Long maximumSize;
+        private DataSize maximumWeight;
+    }
+    
+    /**
+     * Refresh-ahead and stale-while-revalidate settings shared by all caches
+     */
+    @Data
+    public static class Refresh {
+        private boolean enabled = false;
+        private double aheadFraction = 0.8;
+        private Duration staleWindow = Duration.ofMinutes(15);
+    }
+    
+    /**
+     * Negative result cache settings. Lookups answered with {@code Response: "False"} are cached
+     * for the negative TTL, upstream errors for the error TTL.
+     */
+    @Data
+    public static class Negative {
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+        private Duration errorExpireAfterWrite = Duration.ofSeconds(30);
+        private long maximumSize = 5000;
+    }
+    
+    /**
+     * Last known good responses, served when the OMDB quota refuses an upstream call.
+     * Movies are kept compact like in the response caches.
+     */
+    @Data
+    public static class Stale {
+        private Duration expireAfterWrite = Duration.ofDays(7);
+        private long maximumSize = 5000;
+    }
+    
+    /**
+     * Cache warm-up after startup from a list of hot keys and the most requested keys of the previous run.
+     * Readiness reports UP once the ready fraction of keys is loaded, or once the ready timeout has passed.
+     */
+    @Data
+    public static class Warmup {
+        private boolean enabled = false;
+        private String hotKeysFile;                           // Keys to load first, one per line
+        private boolean recordAccess = true;                  // Save the most requested keys on shutdown, when warm-up is enabled
+        private String accessLogFile = "cache-data/access-keys.txt";
+        private int maxKeys = 1000;
+        private int concurrency = 4;
+        private double readyFraction = 0.8;
+        private Duration readyTimeout = Duration.ofMinutes(2);
+    }
+    
+    /**
+     * Cache of rendered tool output, bounded by the estimated size of the output
+     */
+    @Data
+    public static class Render {
+        private boolean enabled = true;
+        private DataSize maximumWeight = DataSize.ofMegabytes(16);
+        private Duration expireAfterWrite = Duration.ofHours(1);
+    }
+    
+    /**
+     * Optional persistent second-level cache stored on local disk
+     */
+    @Data
+    public static class Disk {
+        private boolean enabled = false;
+        private String directory = "cache-data";
+        private Duration expireAfterWrite = Duration.ofDays(1);
+        private DataSize maximumSize = DataSize.ofMegabytes(256);
     }
 }
@@ -0,0 +1,62 @@
+package co.tyrell.omdb_mcp_server.config;
+
+import co.tyrell.omdb_mcp_server.service.CacheStatsContributor;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects the metrics of the OMDB connection pools, one per remote address, and reports
+ * them aggregated alongside the cache statistics
+ */
+public class ConnectionPoolStats implements ConnectionProvider.MeterRegistrar, CacheStatsContributor {
+
+    private final Map<String, ConnectionPoolMetrics> pools = new ConcurrentHashMap<>();
+
+    @Override
+    public void registerMetrics(String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+        pools.put(id, metrics);
+    }
+
+    @Override
+    public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+        pools.remove(id);
+    }
+
+    @Override
+    public String getStatsName() {
+        return "connectionPool";
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        int acquired = 0;
+        int idle = 0;
+        int allocated = 0;
+        int pending = 0;
+        int maxAllocated = 0;
+        int maxPending = 0;
+        for (ConnectionPoolMetrics metrics : pools.values()) {
+            acquired += metrics.acquiredSize();
+            idle += metrics.idleSize();
+            allocated += metrics.allocatedSize();
+            pending += metrics.pendingAcquireSize();
+            maxAllocated += metrics.maxAllocatedSize();
+            maxPending += metrics.maxPendingAcquireSize();
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pools", pools.size());
+        stats.put("acquired", acquired);
+        stats.put("idle", idle);
+        stats.put("allocated", allocated);
+        stats.put("maxConnections", maxAllocated);
+        stats.put("pendingAcquire", pending);
+        stats.put("maxPendingAcquire", maxPending);
+        return stats;
+    }
+}
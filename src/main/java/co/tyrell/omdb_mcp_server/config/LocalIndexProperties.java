@@ -0,0 +1,20 @@
+package co.tyrell.omdb_mcp_server.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the local title index built from OMDB responses
+ */
+@Configuration
+@ConfigurationProperties(prefix = "omdb.local-index")
+@Data
+public class LocalIndexProperties {
+    private boolean enabled = true;
+    private int maxEntries = 50000;     // Movies kept in the index, oldest dropped first
+    private int maxEditDistance = 2;    // Typos tolerated per query word (1 for words up to 7 characters)
+    private int maxResults = 50;        // Upper bound on local_search results
+    private boolean persist = false;    // Save the index on shutdown and reload it on startup
+    private String file = "cache-data/title-index.jsonl";
+}
@@ -14,4 +14,6 @@ public class McpProperties {
     private String name = "OMDB Movie Database Server";
     private String version = "1.0.0";
     private String description = "MCP Server for searching and retrieving movie information from OMDB API";
+    private int batchConcurrency = 8;   // Requests of a JSON-RPC batch handled at once
+    private int maxBatchSize = 50;      // Larger batches are rejected as a whole
 }
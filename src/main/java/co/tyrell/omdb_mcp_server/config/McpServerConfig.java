@@ -1,52 +1,87 @@
 package co.tyrell.omdb_mcp_server.config;
 
 import co.tyrell.omdb_mcp_server.service.MovieSearchTools;
+import co.tyrell.omdb_mcp_server.service.ToolExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Description;
 
-import java.util.List;
 import java.util.function.Function;
 
 /**
- * Configuration for Spring AI MCP Server integration
+ * Configuration for Spring AI MCP Server integration.
+ * Spring AI 1.0 function tools return their result as-is rather than subscribing to a
+ * {@code Mono}, so tools are registered as blocking functions on the {@link ToolExecutor}
+ * and the server runs in SYNC mode.
  */
 @Configuration
-@RequiredArgsConstructor
 @Slf4j
 public class McpServerConfig {
-    
-    private final MovieSearchTools movieSearchTools;
-    
-    /**
-     * Configure search movies tool function
-     */
-    @Bean("search_movies")
-    @Description("Search for movies by title with optional year and type filters")
-    public Function<MovieSearchTools.SearchMoviesRequest, String> searchMovies() {
-        log.info("Registering searchMovies function for Spring AI MCP server");
-        return request -> movieSearchTools.searchMovies(request.title(), request.year(), request.type());
-    }
-    
-    /**
-     * Configure get movie details tool function
-     */
-    @Bean("get_movie_details")
-    @Description("Get detailed information about a specific movie by title")
-    public Function<MovieSearchTools.MovieDetailsRequest, String> getMovieDetails() {
-        log.info("Registering getMovieDetails function for Spring AI MCP server");
-        return request -> movieSearchTools.getMovieDetails(request.title(), request.year(), request.plot());
-    }
-    
+
     /**
-     * Configure get movie by IMDB ID tool function
+     * Blocking tool functions, dispatched onto the {@link ToolExecutor}, by default a virtual thread per call
      */
-    @Bean("get_movie_by_imdb_id")
-    @Description("Get detailed movie information using IMDB ID")
-    public Function<MovieSearchTools.MovieByImdbIdRequest, String> getMovieByImdbId() {
-        log.info("Registering getMovieByImdbId function for Spring AI MCP server");
-        return request -> movieSearchTools.getMovieByImdbId(request.imdbId(), request.plot());
+    @Configuration
+    @RequiredArgsConstructor
+    static class SyncToolConfig {
+
+        private final MovieSearchTools movieSearchTools;
+
+        @Bean
+        public ToolExecutor toolExecutor(ToolExecutorProperties properties) {
+            return new ToolExecutor(properties);
+        }
+
+        /**
+         * Configure search movies tool function
+         */
+        @Bean("search_movies")
+        @Description("Search for movies by title with optional year, type and page filters, optionally gathering results across pages and including details for the top results")
+        public Function<MovieSearchTools.SearchMoviesRequest, String> searchMovies(ToolExecutor toolExecutor) {
+            log.info("Registering searchMovies function for Spring AI MCP server");
+            return request -> toolExecutor.call(() -> movieSearchTools.searchMovies(request));
+        }
+
+        /**
+         * Configure local search tool function
+         */
+        @Bean("local_search")
+        @Description("Search movies seen in earlier results by title, prefix or with small typos, without calling OMDB unless nothing matches")
+        public Function<MovieSearchTools.LocalSearchRequest, String> localSearch(ToolExecutor toolExecutor) {
+            log.info("Registering localSearch function for Spring AI MCP server");
+            return request -> toolExecutor.call(() -> movieSearchTools.localSearch(request));
+        }
+        
+        /**
+         * Configure get movie details tool function
+         */
+        @Bean("get_movie_details")
+        @Description("Get detailed information about a specific movie by title")
+        public Function<MovieSearchTools.MovieDetailsRequest, String> getMovieDetails(ToolExecutor toolExecutor) {
+            log.info("Registering getMovieDetails function for Spring AI MCP server");
+            return request -> toolExecutor.call(() -> movieSearchTools.getMovieDetails(request.title(), request.year(), request.plot(), request.format()));
+        }
+
+        /**
+         * Configure get movie by IMDB ID tool function
+         */
+        @Bean("get_movie_by_imdb_id")
+        @Description("Get detailed movie information using IMDB ID")
+        public Function<MovieSearchTools.MovieByImdbIdRequest, String> getMovieByImdbId(ToolExecutor toolExecutor) {
+            log.info("Registering getMovieByImdbId function for Spring AI MCP server");
+            return request -> toolExecutor.call(() -> movieSearchTools.getMovieByImdbId(request.imdbId(), request.plot(), request.format()));
+        }
+
+        /**
+         * Configure get movies by IMDB IDs batch tool function
+         */
+        @Bean("get_movies_by_imdb_ids")
+        @Description("Get detailed information about several movies at once using a list of IMDB IDs")
+        public Function<MovieSearchTools.MoviesByImdbIdsRequest, String> getMoviesByImdbIds(ToolExecutor toolExecutor) {
+            log.info("Registering getMoviesByImdbIds function for Spring AI MCP server");
+            return request -> toolExecutor.call(() -> movieSearchTools.getMoviesByImdbIds(request.imdbIds(), request.plot()));
+        }
     }
 }
@@ -0,0 +1,17 @@
+package co.tyrell.omdb_mcp_server.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the offline movie catalog loaded from a local dump file
+ */
+@Configuration
+@ConfigurationProperties(prefix = "omdb.catalog")
+@Data
+public class OfflineCatalogProperties {
+    private boolean enabled = false;
+    private String file = "catalog/movies.jsonl";  // JSON lines of OMDB movie records
+    private boolean loadOnStartup = true;           // Import the file when the application starts
+}
@@ -0,0 +1,23 @@
+package co.tyrell.omdb_mcp_server.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for batch lookups
+ */
+@Configuration
+@ConfigurationProperties(prefix = "omdb.batch")
+@Data
+public class OmdbBatchProperties {
+    private int maxIds = 20;       // Distinct IDs accepted per batch call
+    private int concurrency = 4;   // Lookups running at once within a batch
+    private int enrichDefaultLimit = 5;                      // Search hits hydrated when enrich is set without a limit
+    private int enrichMaxLimit = 10;                         // Upper bound on hydrated search hits
+    private Duration enrichDeadline = Duration.ofSeconds(2); // Hits not hydrated by then are returned without details
+    private int searchMaxResults = 100;  // Upper bound on results gathered across search pages
+    private int searchPrefetch = 3;      // Search pages fetched ahead at once
+}
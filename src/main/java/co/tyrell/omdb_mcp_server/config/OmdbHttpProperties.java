@@ -0,0 +1,40 @@
+package co.tyrell.omdb_mcp_server.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the HTTP client calling the OMDB API
+ */
+@Configuration
+@ConfigurationProperties(prefix = "omdb.http")
+@Data
+public class OmdbHttpProperties {
+    
+    private Duration connectTimeout = Duration.ofSeconds(5);
+    private Duration responseTimeout = Duration.ofSeconds(5);
+    private Duration readTimeout = Duration.ofSeconds(5);
+    private Duration writeTimeout = Duration.ofSeconds(5);
+    private boolean compression = true;     // Request gzip/deflate encoded responses
+    private boolean http2 = false;          // Negotiate HTTP/2 via ALPN, falling back to HTTP/1.1
+    private boolean keepAlive = true;
+    private Pool pool = new Pool();
+    
+    /**
+     * Connection pool settings
+     */
+    @Data
+    public static class Pool {
+        private String name = "omdb";
+        private int maxConnections = 50;
+        private int pendingAcquireMaxCount = 500;           // Requests allowed to wait for a connection (-1 for unbounded)
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(10);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        private Duration evictInBackground = Duration.ofSeconds(30);
+        private boolean metrics = true;
+    }
+}
@@ -13,4 +13,5 @@ import org.springframework.context.annotation.Configuration;
 public class OmdbProperties {
     private String url = "http://www.omdbapi.com/";
     private String key;
+    private boolean keepRawJson = false;  // Keep each movie's OMDB JSON with it where movies are cached in full, so format=json is passed through unchanged
 }
@@ -0,0 +1,23 @@
+package co.tyrell.omdb_mcp_server.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the client-side OMDB rate limit and daily quota
+ */
+@Configuration
+@ConfigurationProperties(prefix = "omdb.quota")
+@Data
+public class OmdbQuotaProperties {
+    private boolean enabled = false;             // Off by default; enable to hold upstream calls to the key's limits
+    private double permitsPerSecond = 10;        // Sustained upstream call rate
+    private int burst = 10;                      // Calls allowed back to back after an idle period
+    private long dailyBudget = 1000;             // Upstream calls per day (OMDB free keys allow 1000), -1 for unlimited
+    private double reservedFraction = 0.2;       // Share of the daily budget kept for higher-priority lookups
+    private Duration maxWait = Duration.ofSeconds(2); // Longest a call may wait for a rate-limit permit
+    private String zoneId = "UTC";               // Time zone in which the daily budget resets at midnight
+}
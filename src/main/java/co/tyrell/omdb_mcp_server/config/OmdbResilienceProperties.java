@@ -0,0 +1,57 @@
+package co.tyrell.omdb_mcp_server.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the circuit breaker, retries and hedged requests around OMDB calls
+ */
+@Configuration
+@ConfigurationProperties(prefix = "omdb.resilience")
+@Data
+public class OmdbResilienceProperties {
+    
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Retry retry = new Retry();
+    private Hedge hedge = new Hedge();
+    
+    /**
+     * Count-based circuit breaker over the most recent upstream calls
+     */
+    @Data
+    public static class CircuitBreaker {
+        private boolean enabled = true;
+        private int windowSize = 20;                          // Calls considered for the failure rate
+        private int minimumCalls = 10;                        // Calls needed before the breaker can open
+        private double failureRateThreshold = 0.5;            // Failure rate that opens the breaker
+        private Duration openDuration = Duration.ofSeconds(30); // Time spent failing fast before probing again
+        private int halfOpenCalls = 3;                        // Successful probes needed to close again
+    }
+    
+    /**
+     * Retries of transient failures: transport errors, timeouts and 5xx responses
+     */
+    @Data
+    public static class Retry {
+        private boolean enabled = true;
+        private int maxRetries = 2;
+        private Duration initialBackoff = Duration.ofMillis(100);
+        private Duration maxBackoff = Duration.ofSeconds(1);
+        private double jitter = 0.5;                          // Random share of each backoff, 0 to 1
+    }
+    
+    /**
+     * Hedged requests: a second identical request is sent when the first is slower than usual
+     */
+    @Data
+    public static class Hedge {
+        private boolean enabled = false;
+        private double percentile = 0.95;                     // Latency percentile after which the hedge is sent
+        private int minimumSamples = 20;                      // Recent latencies needed before hedging
+        private Duration minDelay = Duration.ofMillis(50);
+        private Duration maxDelay = Duration.ofSeconds(2);
+    }
+}
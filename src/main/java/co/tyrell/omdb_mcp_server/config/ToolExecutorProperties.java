@@ -0,0 +1,28 @@
+package co.tyrell.omdb_mcp_server.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the executor running blocking MCP tool calls in SYNC server mode
+ */
+@Configuration
+@ConfigurationProperties(prefix = "mcp.tools.executor")
+@Data
+public class ToolExecutorProperties {
+    
+    public enum Mode {
+        /** One virtual thread per tool invocation */
+        VIRTUAL,
+        /** Bounded pool of platform threads */
+        PLATFORM
+    }
+    
+    private Mode mode = Mode.VIRTUAL;
+    private int maxConcurrency = 1000;           // Tool invocations allowed to run at once
+    private int platformPoolSize = 64;           // Threads in PLATFORM mode
+    private Duration acquireTimeout = Duration.ofSeconds(30); // How long a call may wait for a free slot
+}
@@ -7,9 +7,10 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
-import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -19,13 +20,44 @@ import java.util.concurrent.TimeUnit;
 public class WebClientConfig {
     
     @Bean
-    public WebClient webClient() {
-        HttpClient httpClient = HttpClient.create()
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5000)
-                .responseTimeout(Duration.ofMillis(5000))
+    public ConnectionPoolStats connectionPoolStats() {
+        return new ConnectionPoolStats();
+    }
+    
+    /**
+     * Named connection pool for OMDB calls, sized and evicted according to {@code omdb.http.pool.*}
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider omdbConnectionProvider(OmdbHttpProperties properties, ConnectionPoolStats connectionPoolStats) {
+        OmdbHttpProperties.Pool pool = properties.getPool();
+        return ConnectionProvider.builder(pool.getName())
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictInBackground())
+                .metrics(pool.isMetrics(), () -> connectionPoolStats)
+                .build();
+    }
+    
+    @Bean
+    public WebClient webClient(ConnectionProvider omdbConnectionProvider, OmdbHttpProperties properties) {
+        long readTimeout = properties.getReadTimeout().toMillis();
+        long writeTimeout = properties.getWriteTimeout().toMillis();
+        HttpClient httpClient = HttpClient.create(omdbConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, properties.isKeepAlive())
+                .keepAlive(properties.isKeepAlive())
+                .compress(properties.isCompression())
+                .responseTimeout(properties.getResponseTimeout())
                 .doOnConnected(conn -> 
-                    conn.addHandlerLast(new ReadTimeoutHandler(5000, TimeUnit.MILLISECONDS))
-                        .addHandlerLast(new WriteTimeoutHandler(5000, TimeUnit.MILLISECONDS)));
+                    conn.addHandlerLast(new ReadTimeoutHandler(readTimeout, TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(writeTimeout, TimeUnit.MILLISECONDS)));
+        
+        if (properties.isHttp2()) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
         
         return WebClient.builder()
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
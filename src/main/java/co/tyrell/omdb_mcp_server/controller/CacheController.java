@@ -1,5 +1,9 @@
 package co.tyrell.omdb_mcp_server.controller;
 
+import co.tyrell.omdb_mcp_server.cache.TieredCaffeineCache;
+import co.tyrell.omdb_mcp_server.service.CacheStatsContributor;
+import co.tyrell.omdb_mcp_server.service.CacheWarmupService;
+import co.tyrell.omdb_mcp_server.service.OfflineCatalog;
 import com.github.benmanes.caffeine.cache.Cache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,9 +14,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -28,6 +35,9 @@ import java.util.Map;
 public class CacheController {
     
     private final CacheManager cacheManager;
+    private final ObjectProvider<CacheStatsContributor> statsContributors;
+    private final ObjectProvider<OfflineCatalog> offlineCatalog;
+    private final ObjectProvider<CacheWarmupService> cacheWarmup;
     
     /**
      * Get cache statistics for all caches
@@ -35,7 +45,8 @@ public class CacheController {
     @GetMapping("/stats")
     @Operation(
         summary = "Get Cache Statistics",
-        description = "Returns detailed statistics for all active caches including hit rates, miss rates, and entry counts"
+        description = "Returns detailed statistics for all active caches including hit rates, miss rates, and entry counts, " +
+                      "together with upstream request coalescing statistics"
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -55,6 +66,12 @@ public class CacheController {
                         "requestCount": 204,
                         "loadCount": 48,
                         "evictionCount": 0
+                      },
+                      "inFlightRequests": {
+                        "inFlight": 0,
+                        "upstreamCount": 48,
+                        "coalescedCount": 12,
+                        "coalescedRate": 0.2
                       }
                     }
                     """
@@ -81,10 +98,18 @@ public class CacheController {
                 cacheStats.put("loadCount", nativeCache.stats().loadCount());
                 cacheStats.put("evictionCount", nativeCache.stats().evictionCount());
                 
+                if (cache instanceof TieredCaffeineCache tieredCache) {
+                    cacheStats.put("diskSize", tieredCache.getDiskStore().size());
+                    cacheStats.put("diskBytes", tieredCache.getDiskStore().sizeInBytes());
+                }
+                
                 stats.put(cacheName, cacheStats);
             }
         }
         
+        statsContributors.orderedStream()
+                .forEach(contributor -> stats.put(contributor.getStatsName(), contributor.getStats()));
+        
         return stats;
     }
     
@@ -171,4 +196,88 @@ public class CacheController {
             return Map.of("error", "Cache '" + cacheName + "' not found");
         }
     }
+    
+    /**
+     * Re-import the offline catalog file
+     */
+    @PostMapping("/catalog/import")
+    @Operation(
+        summary = "Import Offline Catalog",
+        description = "Reads the configured offline catalog file again and replaces the catalog once the import completes"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Catalog import completed",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                    {
+                      "file": "catalog/movies.jsonl",
+                      "records": 250000,
+                      "skipped": 3,
+                      "bytes": 312000000,
+                      "durationMs": 4120,
+                      "recordsPerSecond": 60679.6
+                    }
+                    """
+                )
+            )
+        )
+    })
+    public Mono<Object> importCatalog() {
+        OfflineCatalog catalog = offlineCatalog.getIfAvailable();
+        if (catalog == null) {
+            return Mono.just(Map.of("error", "Offline catalog is not available"));
+        }
+        return Mono.<Object>fromCallable(catalog::reload)
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.error("Offline catalog import failed", e);
+                    return Mono.just(Map.of("error", "Catalog import failed: " + e.getMessage()));
+                });
+    }
+    
+    /**
+     * Warm the caches from the hot keys and recorded keys
+     */
+    @PostMapping("/warmup")
+    @Operation(
+        summary = "Warm Up Caches",
+        description = "Loads the configured hot keys and the most requested keys of the previous run into the caches, " +
+                      "through the same rate limits as regular requests"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Cache warm-up completed",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                    {
+                      "total": 250,
+                      "loaded": 243,
+                      "failed": 7,
+                      "durationMs": 8120
+                    }
+                    """
+                )
+            )
+        )
+    })
+    public Mono<Object> warmUpCaches() {
+        CacheWarmupService warmup = cacheWarmup.getIfAvailable();
+        if (warmup == null) {
+            return Mono.just(Map.of("error", "Cache warm-up is not available"));
+        }
+        return warmup.warmUp()
+                .cast(Object.class)
+                .defaultIfEmpty(Map.of("error", "Cache warm-up is already running"))
+                .onErrorResume(e -> {
+                    log.error("Cache warm-up failed", e);
+                    return Mono.just(Map.of("error", "Cache warm-up failed: " + e.getMessage()));
+                });
+    }
 }
@@ -1,8 +1,12 @@
 package co.tyrell.omdb_mcp_server.controller;
 
+import co.tyrell.omdb_mcp_server.config.McpProperties;
 import co.tyrell.omdb_mcp_server.model.mcp.McpRequest;
 import co.tyrell.omdb_mcp_server.model.mcp.McpResponse;
 import co.tyrell.omdb_mcp_server.service.McpService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,12 +17,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
- * REST controller for handling MCP requests
+ * REST controller for handling MCP requests, singly or as JSON-RPC 2.0 batches
  */
 @RestController
 @RequestMapping("/mcp")
@@ -29,13 +35,17 @@ import reactor.core.publisher.Mono;
 public class McpController {
     
     private final McpService mcpService;
+    private final McpProperties mcpProperties;
+    private final ObjectMapper objectMapper;
     
     @PostMapping("")
     @Operation(
         summary = "Handle MCP Request",
-        description = "Processes Model Context Protocol requests including tool discovery and movie search operations",
+        description = "Processes Model Context Protocol requests including tool discovery and movie search operations. " +
+                      "A JSON-RPC 2.0 batch (an array of requests) is handled concurrently and answered with an array of responses, " +
+                      "leaving out notifications",
         requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
-            description = "MCP JSON-RPC 2.0 request",
+            description = "MCP JSON-RPC 2.0 request or batch of requests",
             required = true,
             content = @Content(
                 mediaType = "application/json",
@@ -89,6 +99,26 @@ public class McpController {
                           }
                         }
                         """
+                    ),
+                    @ExampleObject(
+                        name = "Batch",
+                        summary = "Several tool calls in one request",
+                        value = """
+                        [
+                          {
+                            "jsonrpc": "2.0",
+                            "id": "4",
+                            "method": "tools/call",
+                            "params": {"name": "get_movie_by_imdb_id", "arguments": {"imdbId": "tt0133093"}}
+                          },
+                          {
+                            "jsonrpc": "2.0",
+                            "id": "5",
+                            "method": "tools/call",
+                            "params": {"name": "search_movies", "arguments": {"title": "Inception"}}
+                          }
+                        ]
+                        """
                     )
                 }
             )
@@ -122,26 +152,117 @@ public class McpController {
             )
         )
     })
-    public Mono<ResponseEntity<McpResponse>> handleMcpRequest(
-        @Parameter(description = "MCP JSON-RPC 2.0 request") @RequestBody McpRequest request) {
+    public Mono<ResponseEntity<Object>> handleMcpRequest(
+        @Parameter(description = "MCP JSON-RPC 2.0 request or batch of requests") @RequestBody JsonNode body) {
+        if (body.isArray()) {
+            return handleBatch(body);
+        }
+        
+        McpRequest request;
+        try {
+            request = objectMapper.treeToValue(body, McpRequest.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return Mono.just(ResponseEntity.<Object>ok(errorResponse(null, -32600, "Invalid Request")));
+        }
         log.info("Received MCP request: {} with ID: {}", request.getMethod(), request.getId());
         
-        return mcpService.handleRequest(request)
+        return handle(request)
                 .map(response -> {
                     log.info("Sending MCP response for ID: {}", response.getId());
-                    return ResponseEntity.ok(response);
-                })
+                    return ResponseEntity.<Object>ok(response);
+                });
+    }
+    
+    /**
+     * Handle the members of a batch concurrently, up to the configured limit, answering in request order.
+     * Notifications (members without an id) get no response; a batch of only notifications is answered
+     * with 202 Accepted and no body.
+     */
+    private Mono<ResponseEntity<Object>> handleBatch(JsonNode batch) {
+        if (batch.isEmpty() || batch.size() > mcpProperties.getMaxBatchSize()) {
+            String message = batch.isEmpty() ? "Invalid Request"
+                    : "Invalid Request: at most " + mcpProperties.getMaxBatchSize() + " requests per batch";
+            return Mono.just(ResponseEntity.<Object>ok(errorResponse(null, -32600, message)));
+        }
+        log.info("Received MCP batch of {} requests", batch.size());
+        
+        return Flux.fromIterable(batch)
+                .flatMapSequential(this::handleBatchMember, Math.max(mcpProperties.getBatchConcurrency(), 1))
+                .collectList()
+                .map(responses -> responses.isEmpty()
+                        ? ResponseEntity.accepted().<Object>build()
+                        : ResponseEntity.<Object>ok(responses));
+    }
+    
+    private Mono<McpResponse> handleBatchMember(JsonNode member) {
+        McpRequest request;
+        try {
+            request = member.isObject() ? objectMapper.treeToValue(member, McpRequest.class) : null;
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            request = null;
+        }
+        if (request == null) {
+            return Mono.just(errorResponse(null, -32600, "Invalid Request"));
+        }
+        
+        boolean notification = !member.has("id");
+        return handle(request).filter(response -> !notification);
+    }
+    
+    private Mono<McpResponse> handle(McpRequest request) {
+        return mcpService.handleRequest(request)
                 .onErrorResume(error -> {
                     log.error("Error processing MCP request", error);
-                    McpResponse errorResponse = new McpResponse();
-                    errorResponse.setId(request.getId());
-                    
-                    McpResponse.McpError mcpError = new McpResponse.McpError();
-                    mcpError.setCode(-32603);
-                    mcpError.setMessage("Internal error: " + error.getMessage());
-                    errorResponse.setError(mcpError);
-                    
-                    return Mono.just(ResponseEntity.ok(errorResponse));
+                    return Mono.just(errorResponse(request.getId(), -32603, "Internal error: " + error.getMessage()));
+                });
+    }
+    
+    private static McpResponse errorResponse(String id, int code, String message) {
+        McpResponse errorResponse = new McpResponse();
+        errorResponse.setId(id);
+        
+        McpResponse.McpError mcpError = new McpResponse.McpError();
+        mcpError.setCode(code);
+        mcpError.setMessage(message);
+        errorResponse.setError(mcpError);
+        
+        return errorResponse;
+    }
+    
+    @PostMapping(value = "/stream", produces = { MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    @Operation(
+        summary = "Stream MCP Request",
+        description = "Processes a Model Context Protocol request as a stream of Server-Sent Events or NDJSON lines. " +
+                      "Tool calls with several parts, such as get_movies_by_imdb_ids, send a notifications/omdb/partial_result " +
+                      "message (a server extension, not part of MCP) as each part resolves, preceded by a notifications/progress " +
+                      "message when the request sets params._meta.progressToken, followed by the JSON-RPC response"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Notifications followed by the MCP response",
+            content = @Content(
+                mediaType = "application/x-ndjson",
+                examples = @ExampleObject(
+                    value = """
+                    {"jsonrpc":"2.0","method":"notifications/progress","params":{"progressToken":"batch-1","progress":1,"total":2}}
+                    {"jsonrpc":"2.0","method":"notifications/omdb/partial_result","params":{"requestId":"4","content":[{"type":"text","text":"🎬 The Matrix (1999) ..."}]}}
+                    {"jsonrpc":"2.0","method":"notifications/progress","params":{"progressToken":"batch-1","progress":2,"total":2}}
+                    {"jsonrpc":"2.0","method":"notifications/omdb/partial_result","params":{"requestId":"4","content":[{"type":"text","text":"🎬 Inception (2010) ..."}]}}
+                    {"jsonrpc":"2.0","id":"4","result":{"content":[{"type":"text","text":"Found 2 of 2 movies: ..."}]}}
+                    """
+                )
+            )
+        )
+    })
+    public Flux<Object> streamMcpRequest(
+        @Parameter(description = "MCP JSON-RPC 2.0 request") @RequestBody McpRequest request) {
+        log.info("Received streamed MCP request: {} with ID: {}", request.getMethod(), request.getId());
+        
+        return mcpService.streamRequest(request)
+                .onErrorResume(error -> {
+                    log.error("Error processing streamed MCP request", error);
+                    return Mono.just(errorResponse(request.getId(), -32603, "Internal error: " + error.getMessage()));
                 });
     }
     
@@ -0,0 +1,54 @@
+package co.tyrell.omdb_mcp_server.model.mcp;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MCP notification, sent ahead of the response while a streamed request is in progress.
+ * Besides the standard progress notification, the server sends partial results under its own
+ * {@code notifications/omdb/} namespace; this is an extension of this server, not part of MCP, and
+ * clients that do not know it can ignore it like any other unknown notification.
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Model Context Protocol JSON-RPC 2.0 notification")
+public class McpNotification {
+    public static final String PROGRESS = "notifications/progress";
+    public static final String PARTIAL_RESULT = "notifications/omdb/partial_result";
+    
+    @Schema(description = "JSON-RPC version", example = "2.0", defaultValue = "2.0")
+    private String jsonrpc = "2.0";
+    
+    @Schema(description = "Notification name", example = "notifications/progress")
+    private String method;
+    
+    @Schema(description = "Notification parameters")
+    private Map<String, Object> params;
+    
+    /**
+     * Progress of the request that asked for it with the token in {@code params._meta.progressToken},
+     * e.g. 3 of 10 lookups done
+     */
+    public static McpNotification progress(Object progressToken, long progress, long total) {
+        McpNotification notification = new McpNotification();
+        notification.setMethod(PROGRESS);
+        notification.setParams(Map.of("progressToken", progressToken, "progress", progress, "total", total));
+        return notification;
+    }
+    
+    /**
+     * A content item of the result of the request with the given id, sent as soon as it is available.
+     * Server extension, see above.
+     */
+    public static McpNotification partialResult(Object requestId, String text) {
+        McpNotification notification = new McpNotification();
+        notification.setMethod(PARTIAL_RESULT);
+        notification.setParams(Map.of("requestId", requestId,
+                "content", List.of(Map.of("type", "text", "text", text))));
+        return notification;
+    }
+}
@@ -1,10 +1,9 @@
 package co.tyrell.omdb_mcp_server.model.mcp;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 
-import java.util.Map;
-
 /**
  * Base MCP request structure
  */
@@ -20,6 +19,9 @@ public class McpRequest {
     @Schema(description = "Method name", example = "tools/call", allowableValues = {"initialize", "tools/list", "tools/call"})
     private String method;
     
-    @Schema(description = "Method parameters", example = "{\"name\": \"search_movies\", \"arguments\": {\"title\": \"The Matrix\"}}")
-    private Map<String, Object> params;
+    /**
+     * Kept as a JSON tree so tool arguments bind straight to the tool's argument record
+     */
+    @Schema(description = "Method parameters", type = "object", example = "{\"name\": \"search_movies\", \"arguments\": {\"title\": \"The Matrix\"}}")
+    private JsonNode params;
 }
@@ -29,8 +29,13 @@ public class McpTool {
             private String pattern; // for regex patterns
             private Integer minLength;
             private Integer maxLength;
+            private Integer minimum;
+            private Integer maximum;
             private Object defaultValue;
             private List<String> examples;
+            private Property items; // for array element schemas
+            private Integer minItems;
+            private Integer maxItems;
         }
     }
 }
@@ -1,7 +1,10 @@
 package co.tyrell.omdb_mcp_server.model.omdb;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 /**
  * OMDB API Movie response model
@@ -86,6 +89,22 @@ public class OmdbMovie {
     @JsonProperty("Error")
     private String error;
     
+    /**
+     * The movie's JSON as received from OMDB or first serialized, so JSON output needs no serialization
+     */
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private String rawJson;
+    
+    /**
+     * Whether OMDB answered with {@code Response: "True"}
+     */
+    @JsonIgnore
+    public boolean isSuccessful() {
+        return "True".equals(response);
+    }
+    
     @Data
     public static class Rating {
         @JsonProperty("Source")
@@ -1,5 +1,6 @@
 package co.tyrell.omdb_mcp_server.model.omdb;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 
@@ -20,6 +21,14 @@ public class OmdbSearchResponse {
     @JsonProperty("Error")
     private String error;
     
+    /**
+     * Whether OMDB answered with {@code Response: "True"}
+     */
+    @JsonIgnore
+    public boolean isSuccessful() {
+        return "True".equals(response);
+    }
+    
     @Data
     public static class SearchResult {
         @JsonProperty("Title")
@@ -0,0 +1,19 @@
+package co.tyrell.omdb_mcp_server.service;
+
+import java.util.Map;
+
+/**
+ * Component that reports additional statistics alongside the cache statistics
+ */
+public interface CacheStatsContributor {
+
+    /**
+     * Name under which the statistics are reported in {@code /cache/stats}
+     */
+    String getStatsName();
+
+    /**
+     * Snapshot of the current statistics
+     */
+    Map<String, Object> getStats();
+}
@@ -0,0 +1,200 @@
+package co.tyrell.omdb_mcp_server.service;
+
+import co.tyrell.omdb_mcp_server.cache.HotKeyRecorder;
+import co.tyrell.omdb_mcp_server.cache.OmdbCacheKey;
+import co.tyrell.omdb_mcp_server.config.CacheConfig;
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbMovie;
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbSearchResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads the caches after startup with the keys listed in the hot keys file and the keys most requested
+ * during the previous run. Keys are fetched through {@link OmdbService}, so cached and catalog entries
+ * cost nothing and OMDB calls go through the quota governor like any other request.
+ * <p>
+ * Readiness follows the warm-up: the service reports ready once the configured fraction of keys is
+ * loaded, or once the ready timeout has passed, so a slow or failing OMDB does not keep it out of
+ * service for good.
+ */
+@Component
+@Slf4j
+public class CacheWarmupService implements CacheStatsContributor, DisposableBean {
+
+    /**
+     * Outcome of a warm-up run
+     */
+    public record WarmupResult(int total, int loaded, int failed, long durationMs) {
+    }
+
+    private final CacheConfig.Warmup properties;
+    private final OmdbService omdbService;
+    private final HotKeyRecorder hotKeyRecorder;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger loaded = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private volatile long startedAt;
+    private volatile boolean completed;
+    private volatile WarmupResult lastRun;
+
+    public CacheWarmupService(CacheConfig cacheConfig, OmdbService omdbService, HotKeyRecorder hotKeyRecorder) {
+        this.properties = cacheConfig.getWarmup();
+        this.omdbService = omdbService;
+        this.hotKeyRecorder = hotKeyRecorder;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.isEnabled()) {
+            warmUp().subscribe(
+                    result -> log.info("Cache warm-up loaded {} of {} keys in {} ms ({} failed)",
+                            result.loaded(), result.total(), result.durationMs(), result.failed()),
+                    e -> log.warn("Cache warm-up failed: {}", e.getMessage()));
+        }
+    }
+
+    /**
+     * Load the hot keys and the recorded keys into the caches. Completes empty if a warm-up is
+     * already running. A warm-up that fails, e.g. because a key file cannot be read, counts as
+     * completed, so it does not hold readiness back.
+     */
+    public Mono<WarmupResult> warmUp() {
+        if (!running.compareAndSet(false, true)) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(this::readKeys)
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(keys -> {
+                    start(keys.size());
+                    return Flux.fromIterable(keys)
+                            .flatMap(this::load, Math.max(properties.getConcurrency(), 1))
+                            .then(Mono.fromSupplier(this::finish));
+                })
+                .doOnError(e -> completed = true)
+                .doFinally(signal -> running.set(false));
+    }
+
+    /**
+     * True once enough keys are loaded, or the ready timeout has passed since the warm-up started
+     */
+    public boolean isReady() {
+        if (!properties.isEnabled() || completed) {
+            return true;
+        }
+        if (startedAt == 0) {
+            return false;
+        }
+        int keys = total.get();
+        return keys == 0
+                || loaded.get() >= keys * properties.getReadyFraction()
+                || System.nanoTime() - startedAt >= properties.getReadyTimeout().toNanos();
+    }
+
+    /**
+     * Save the most requested keys for the next start, if warm-up is enabled
+     */
+    @Override
+    public void destroy() {
+        if (!properties.isEnabled() || !properties.isRecordAccess() || hotKeyRecorder.size() == 0) {
+            return;
+        }
+        try {
+            hotKeyRecorder.save(Path.of(properties.getAccessLogFile()), properties.getMaxKeys());
+            log.info("Saved {} most requested cache keys to {}",
+                    Math.min(hotKeyRecorder.size(), properties.getMaxKeys()), properties.getAccessLogFile());
+        } catch (IOException e) {
+            log.warn("Could not save requested cache keys to {}: {}", properties.getAccessLogFile(), e.getMessage());
+        }
+    }
+
+    /**
+     * Hot keys first, then recorded keys, without duplicates and up to the key limit
+     */
+    List<OmdbCacheKey> readKeys() throws IOException {
+        Set<OmdbCacheKey> keys = new LinkedHashSet<>();
+        for (String file : new String[] { properties.getHotKeysFile(), properties.getAccessLogFile() }) {
+            if (StringUtils.hasText(file) && Files.isRegularFile(Path.of(file))) {
+                keys.addAll(HotKeyRecorder.load(Path.of(file)));
+            }
+        }
+        return new ArrayList<>(keys).subList(0, Math.min(keys.size(), properties.getMaxKeys()));
+    }
+
+    /**
+     * Load one key; the lookup is not recorded as a request, so warm-up keys do not rank themselves
+     * for the next start
+     */
+    private Mono<Boolean> load(OmdbCacheKey key) {
+        Mono<Boolean> successful = hotKeyRecorder.withoutRecording(() -> switch (key.operation()) {
+            case SEARCH -> omdbService.searchMovies(key.query(), key.year(), key.variant(), key.page())
+                    .map(OmdbSearchResponse::isSuccessful);
+            case TITLE -> omdbService.getMovieByTitle(key.query(), key.year(), key.variant())
+                    .map(OmdbMovie::isSuccessful);
+            case IMDB_ID -> omdbService.getMovieByImdbId(key.query(), key.variant())
+                    .map(OmdbMovie::isSuccessful);
+        });
+        return successful
+                .defaultIfEmpty(false)
+                .onErrorResume(e -> {
+                    log.debug("Cache warm-up could not load {}: {}", key, e.getMessage());
+                    return Mono.just(false);
+                })
+                .doOnNext(found -> (found ? loaded : failed).incrementAndGet());
+    }
+
+    private void start(int keys) {
+        total.set(keys);
+        loaded.set(0);
+        failed.set(0);
+        startedAt = System.nanoTime();
+        log.info("Cache warm-up started for {} keys", keys);
+    }
+
+    private WarmupResult finish() {
+        completed = true;
+        lastRun = new WarmupResult(total.get(), loaded.get(), failed.get(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return lastRun;
+    }
+
+    @Override
+    public String getStatsName() {
+        return "cacheWarmup";
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", properties.isEnabled());
+        stats.put("running", running.get());
+        stats.put("ready", isReady());
+        stats.put("total", total.get());
+        stats.put("loaded", loaded.get());
+        stats.put("failed", failed.get());
+        stats.put("recordedKeys", hotKeyRecorder.size());
+        stats.put("lastRun", lastRun);
+        return stats;
+    }
+}
@@ -0,0 +1,143 @@
+package co.tyrell.omdb_mcp_server.service;
+
+import co.tyrell.omdb_mcp_server.config.OmdbResilienceProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker. While closed it tracks the outcome of the most recent calls and
+ * opens once their failure rate reaches the threshold. While open every call is refused until the
+ * open duration has passed, after which a limited number of probe calls decide whether to close again.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final OmdbResilienceProperties.CircuitBreaker properties;
+    private final LongSupplier nanoTime;
+    private final boolean[] window;
+
+    private State state = State.CLOSED;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+    private long openedAt;
+    private int probePermits;
+    private int probeSuccesses;
+
+    public CircuitBreaker(OmdbResilienceProperties.CircuitBreaker properties) {
+        this(properties, System::nanoTime);
+    }
+
+    CircuitBreaker(OmdbResilienceProperties.CircuitBreaker properties, LongSupplier nanoTime) {
+        this.properties = properties;
+        this.nanoTime = nanoTime;
+        this.window = new boolean[Math.max(properties.getWindowSize(), 1)];
+    }
+
+    /**
+     * Whether a call may proceed. A permitted call must be followed by exactly one of
+     * {@link #onSuccess()}, {@link #onFailure()} or {@link #onIgnored()}.
+     */
+    public synchronized boolean tryAcquire() {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        if (state == State.OPEN && nanoTime.getAsLong() - openedAt >= properties.getOpenDuration().toNanos()) {
+            transitionTo(State.HALF_OPEN);
+            probePermits = properties.getHalfOpenCalls();
+            probeSuccesses = 0;
+        }
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (probePermits == 0) {
+                    yield false;
+                }
+                probePermits--;
+                yield true;
+            }
+        };
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++probeSuccesses >= properties.getHalfOpenCalls()) {
+                transitionTo(State.CLOSED);
+                resetWindow();
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (windowCount >= properties.getMinimumCalls()
+                    && (double) windowFailures / windowCount >= properties.getFailureRateThreshold()) {
+                open();
+            }
+        }
+    }
+
+    /**
+     * Release a permitted call whose outcome says nothing about upstream health
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            probePermits++;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized double getFailureRate() {
+        return windowCount == 0 ? 0.0 : (double) windowFailures / windowCount;
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void open() {
+        transitionTo(State.OPEN);
+        openedAt = nanoTime.getAsLong();
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+
+    private void transitionTo(State newState) {
+        if (state != newState) {
+            log.warn("OMDB circuit breaker {} -> {}", state, newState);
+            state = newState;
+        }
+    }
+}
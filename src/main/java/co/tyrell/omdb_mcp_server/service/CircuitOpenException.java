@@ -0,0 +1,11 @@
+package co.tyrell.omdb_mcp_server.service;
+
+/**
+ * Thrown when an upstream OMDB call is refused because the circuit breaker is open
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    public CircuitOpenException(String message) {
+        super(message);
+    }
+}
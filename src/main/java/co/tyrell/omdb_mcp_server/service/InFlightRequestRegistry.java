@@ -0,0 +1,77 @@
+package co.tyrell.omdb_mcp_server.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Registry of in-flight OMDB API calls.
+ * Concurrent cache misses for the same key share a single upstream call and its response
+ * instead of each issuing their own request.
+ */
+@Component
+@Slf4j
+public class InFlightRequestRegistry implements CacheStatsContributor {
+
+    private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder upstreamCalls = new LongAdder();
+    private final LongAdder coalescedCalls = new LongAdder();
+
+    /**
+     * Execute the upstream call for the given key, joining an identical call that is already in flight.
+     * The upstream call is not cancelled when a single caller cancels, as other callers may be waiting on it.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(Object key, Supplier<Mono<T>> upstreamCall) {
+        return Mono.defer(() -> {
+            CompletableFuture<Object> candidate = new CompletableFuture<>();
+            CompletableFuture<Object> existing = inFlight.putIfAbsent(key, candidate);
+
+            if (existing != null) {
+                coalescedCalls.increment();
+                log.debug("Coalescing OMDB call with in-flight request for key: {}", key);
+                return Mono.fromFuture((CompletableFuture<T>) existing, true);
+            }
+
+            upstreamCalls.increment();
+            Mono.defer(upstreamCall)
+                    .doFinally(signal -> inFlight.remove(key, candidate))
+                    .subscribe(candidate::complete, candidate::completeExceptionally, () -> candidate.complete(null));
+
+            return Mono.fromFuture((CompletableFuture<T>) candidate, true);
+        });
+    }
+
+    /**
+     * Number of upstream calls currently in flight
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    @Override
+    public String getStatsName() {
+        return "inFlightRequests";
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        long upstream = upstreamCalls.sum();
+        long coalesced = coalescedCalls.sum();
+        long total = upstream + coalesced;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("inFlight", getInFlightCount());
+        stats.put("upstreamCount", upstream);
+        stats.put("coalescedCount", coalesced);
+        stats.put("coalescedRate", total == 0 ? 0.0 : (double) coalesced / total);
+        return stats;
+    }
+}
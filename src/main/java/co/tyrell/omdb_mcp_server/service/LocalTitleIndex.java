@@ -0,0 +1,449 @@
+package co.tyrell.omdb_mcp_server.service;
+
+import co.tyrell.omdb_mcp_server.cache.OmdbCaffeineCacheManager;
+import co.tyrell.omdb_mcp_server.config.LocalIndexProperties;
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbMovie;
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbSearchResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-process inverted index over the titles, directors and actors of every movie OMDB has returned.
+ * It is fed from upstream responses, offline catalog and alias hits and every value written to the
+ * OMDB caches, including entries promoted from disk, and answers exact, prefix and typo-tolerant
+ * title queries without a network call. Every query word has to match a title word, or a director or actor name
+ * at a lower weight; typos are only looked for when a word has no exact or prefix match.
+ * The index can be saved on shutdown and reloaded on startup.
+ */
+@Component
+@Slf4j
+public class LocalTitleIndex implements CacheStatsContributor, DisposableBean {
+
+    /**
+     * Indexed movie; details are merged in as full lookups for the movie come through
+     */
+    public record Entry(String imdbId, String title, String year, String type, String director, String actors) {
+    }
+
+    /**
+     * Search result with its relevance score
+     */
+    public record Hit(Entry entry, double score) {
+    }
+
+    private static final double EXACT = 1.0;
+    private static final double PREFIX = 0.8;
+    private static final double FUZZY = 0.6;
+    private static final double PEOPLE_WEIGHT = 0.5;
+    private static final double FULL_TITLE_BONUS = 1.0;
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private final LocalIndexProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final NavigableMap<String, Set<String>> titleTokens = new TreeMap<>();
+    private final NavigableMap<String, Set<String>> peopleTokens = new TreeMap<>();
+    private final Map<String, Set<String>> titleBuckets = new HashMap<>();
+    private final Map<String, Set<String>> peopleBuckets = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final LongAdder queries = new LongAdder();
+    private final LongAdder answeredQueries = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Autowired
+    public LocalTitleIndex(LocalIndexProperties properties, ObjectMapper objectMapper, CacheManager cacheManager) {
+        this(properties, objectMapper);
+        if (cacheManager instanceof OmdbCaffeineCacheManager omdbCacheManager) {
+            omdbCacheManager.addWriteListener((key, value) -> index(value));
+        }
+    }
+
+    LocalTitleIndex(LocalIndexProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        if (properties.isEnabled() && properties.isPersist()) {
+            load(Path.of(properties.getFile()));
+        }
+    }
+
+    /**
+     * Add the movies of a successful OMDB response to the index
+     */
+    public void index(Object response) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (response instanceof OmdbMovie movie && movie.isSuccessful()) {
+            add(new Entry(movie.getImdbId(), movie.getTitle(), movie.getYear(), movie.getType(), movie.getDirector(), movie.getActors()));
+        } else if (response instanceof OmdbSearchResponse searchResponse && searchResponse.isSuccessful() && searchResponse.getSearch() != null) {
+            for (OmdbSearchResponse.SearchResult result : searchResponse.getSearch()) {
+                add(new Entry(result.getImdbId(), result.getTitle(), result.getYear(), result.getType(), null, null));
+            }
+        }
+    }
+
+    /**
+     * Add or update a movie, keeping names already known when the update lacks them
+     */
+    public void add(Entry entry) {
+        if (entry == null || !StringUtils.hasText(entry.imdbId()) || !StringUtils.hasText(entry.title())) {
+            return;
+        }
+
+        lock.readLock().lock();
+        try {
+            Entry existing = entries.get(entry.imdbId());
+            if (existing != null && merge(entry, existing).equals(existing)) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            Entry existing = entries.remove(entry.imdbId());
+            if (existing != null) {
+                unindex(existing);
+                entry = merge(entry, existing);
+            }
+            entries.put(entry.imdbId(), entry);
+            index(entry);
+
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (entries.size() > properties.getMaxEntries() && eldest.hasNext()) {
+                Entry evicted = eldest.next();
+                eldest.remove();
+                unindex(evicted);
+                evictions.increment();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find indexed movies matching a title query, best matches first
+     */
+    public List<Hit> search(String query, String year, String type, int limit) {
+        queries.increment();
+        List<String> queryTokens = tokenize(query);
+        if (!properties.isEnabled() || queryTokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        int maxHits = Math.min(limit, properties.getMaxResults());
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Map<String, Double> scores = null;
+            for (String token : queryTokens) {
+                Map<String, Double> tokenScores = new HashMap<>();
+                matchPrefix(token, titleTokens, 1.0, tokenScores);
+                matchPrefix(token, peopleTokens, PEOPLE_WEIGHT, tokenScores);
+                if (tokenScores.isEmpty()) {
+                    matchFuzzy(token, titleTokens, titleBuckets, 1.0, tokenScores);
+                    matchFuzzy(token, peopleTokens, peopleBuckets, PEOPLE_WEIGHT, tokenScores);
+                }
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    scores.replaceAll((id, score) -> score + tokenScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            for (Map.Entry<String, Double> scored : scores.entrySet()) {
+                Entry entry = entries.get(scored.getKey());
+                if (matchesFilters(entry, year, type)) {
+                    double bonus = tokenize(entry.title()).equals(queryTokens) ? FULL_TITLE_BONUS : 0;
+                    hits.add(new Hit(entry, scored.getValue() / queryTokens.size() + bonus));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                .thenComparing(hit -> hit.entry().title(), String.CASE_INSENSITIVE_ORDER));
+        if (!hits.isEmpty()) {
+            answeredQueries.increment();
+        }
+        return hits.size() > maxHits ? List.copyOf(hits.subList(0, maxHits)) : hits;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Score the movies with a word equal to or starting with the query word, keeping the best score per movie
+     */
+    private static void matchPrefix(String token, NavigableMap<String, Set<String>> tokens, double weight, Map<String, Double> scores) {
+        for (Map.Entry<String, Set<String>> candidate : tokens.subMap(token, true, token + Character.MAX_VALUE, true).entrySet()) {
+            double score = candidate.getKey().equals(token) ? EXACT : PREFIX;
+            for (String imdbId : candidate.getValue()) {
+                scores.merge(imdbId, score * weight, Math::max);
+            }
+        }
+    }
+
+    /**
+     * Score the movies with a word within the allowed edit distance of the query word. Only words
+     * sharing the first letter and within the edit distance in length are compared, so the scan
+     * covers a few length buckets rather than every word starting with the same letter.
+     */
+    private void matchFuzzy(String token, Map<String, Set<String>> tokens, Map<String, Set<String>> buckets,
+                            double weight, Map<String, Double> scores) {
+        int maxEdits = Math.min(token.length() <= 7 ? 1 : 2, properties.getMaxEditDistance());
+        if (token.length() < 4 || maxEdits <= 0) {
+            return;
+        }
+        for (int length = token.length() - maxEdits; length <= token.length() + maxEdits; length++) {
+            for (String candidate : buckets.getOrDefault(bucket(token.charAt(0), length), Set.of())) {
+                if (withinEditDistance(token, candidate, maxEdits)) {
+                    for (String imdbId : tokens.get(candidate)) {
+                        scores.merge(imdbId, FUZZY * weight, Math::max);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Fuzzy candidate bucket of the words with the given first letter and length
+     */
+    private static String bucket(char first, int length) {
+        return first + ":" + length;
+    }
+
+    private static boolean matchesFilters(Entry entry, String year, String type) {
+        if (StringUtils.hasText(year) && (entry.year() == null || !entry.year().startsWith(year.trim()))) {
+            return false;
+        }
+        return !StringUtils.hasText(type) || type.trim().equalsIgnoreCase(entry.type());
+    }
+
+    private void index(Entry entry) {
+        for (String token : tokenize(entry.title())) {
+            add(titleTokens, titleBuckets, token, entry.imdbId());
+        }
+        for (String token : peopleTokens(entry)) {
+            add(peopleTokens, peopleBuckets, token, entry.imdbId());
+        }
+    }
+
+    private void unindex(Entry entry) {
+        for (String token : tokenize(entry.title())) {
+            remove(titleTokens, titleBuckets, token, entry.imdbId());
+        }
+        for (String token : peopleTokens(entry)) {
+            remove(peopleTokens, peopleBuckets, token, entry.imdbId());
+        }
+    }
+
+    private static void add(Map<String, Set<String>> tokens, Map<String, Set<String>> buckets, String token, String imdbId) {
+        tokens.computeIfAbsent(token, key -> {
+            buckets.computeIfAbsent(bucket(token.charAt(0), token.length()), b -> new HashSet<>()).add(token);
+            return new HashSet<>();
+        }).add(imdbId);
+    }
+
+    private static void remove(Map<String, Set<String>> tokens, Map<String, Set<String>> buckets, String token, String imdbId) {
+        Set<String> ids = tokens.get(token);
+        if (ids != null && ids.remove(imdbId) && ids.isEmpty()) {
+            tokens.remove(token);
+            String bucket = bucket(token.charAt(0), token.length());
+            Set<String> words = buckets.get(bucket);
+            if (words != null && words.remove(token) && words.isEmpty()) {
+                buckets.remove(bucket);
+            }
+        }
+    }
+
+    private static Set<String> peopleTokens(Entry entry) {
+        Set<String> tokens = new LinkedHashSet<>(tokenize(entry.director()));
+        tokens.addAll(tokenize(entry.actors()));
+        return tokens;
+    }
+
+    /**
+     * Split text into lower-case words without accents, so "Amélie" and "amelie" match
+     */
+    static List<String> tokenize(String text) {
+        if (!StringUtils.hasText(text) || "N/A".equals(text)) {
+            return List.of();
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFKD)).replaceAll("").toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String token : NON_WORD.split(folded)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Levenshtein distance check that gives up once the distance is known to exceed the limit
+     */
+    static boolean withinEditDistance(String a, String b, int maxEdits) {
+        if (Math.abs(a.length() - b.length()) > maxEdits) {
+            return false;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxEdits) {
+                return false;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()] <= maxEdits;
+    }
+
+    /**
+     * The update with the details it lacks taken from the entry already indexed
+     */
+    private static Entry merge(Entry update, Entry existing) {
+        return new Entry(update.imdbId(), update.title(),
+                firstNonNull(update.year(), existing.year()),
+                firstNonNull(update.type(), existing.type()),
+                firstNonNull(update.director(), existing.director()),
+                firstNonNull(update.actors(), existing.actors()));
+    }
+
+    private static String firstNonNull(String value, String fallback) {
+        return value != null ? value : fallback;
+    }
+
+    private void load(Path file) {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    add(objectMapper.readValue(line, Entry.class));
+                }
+            }
+            log.info("Loaded {} movies into the local title index from {}", size(), file);
+        } catch (IOException e) {
+            log.warn("Could not load the local title index from {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Write the index to its file, replacing the previous copy only once the new one is complete
+     */
+    void save(Path file) throws IOException {
+        Path absolute = file.toAbsolutePath();
+        Files.createDirectories(absolute.getParent());
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+
+        lock.readLock().lock();
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (Entry entry : entries.values()) {
+                writer.write(objectMapper.writeValueAsString(entry));
+                writer.newLine();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public void destroy() {
+        if (!properties.isEnabled() || !properties.isPersist()) {
+            return;
+        }
+        try {
+            save(Path.of(properties.getFile()));
+            log.info("Saved {} movies from the local title index to {}", size(), properties.getFile());
+        } catch (IOException e) {
+            log.warn("Could not save the local title index to {}: {}", properties.getFile(), e.getMessage());
+        }
+    }
+
+    @Override
+    public String getStatsName() {
+        return "localTitleIndex";
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        long total = queries.sum();
+        long answered = answeredQueries.sum();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            stats.put("enabled", properties.isEnabled());
+            stats.put("entries", entries.size());
+            stats.put("titleWords", titleTokens.size());
+            stats.put("peopleWords", peopleTokens.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+        stats.put("queryCount", total);
+        stats.put("answeredCount", answered);
+        stats.put("answeredRate", total == 0 ? 0.0 : (double) answered / total);
+        stats.put("evictionCount", evictions.sum());
+        return stats;
+    }
+}
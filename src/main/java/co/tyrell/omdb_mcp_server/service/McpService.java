@@ -1,6 +1,10 @@
 package co.tyrell.omdb_mcp_server.service;
 
+import co.tyrell.omdb_mcp_server.cache.OmdbCacheKey;
+import co.tyrell.omdb_mcp_server.config.LocalIndexProperties;
 import co.tyrell.omdb_mcp_server.config.McpProperties;
+import co.tyrell.omdb_mcp_server.config.OmdbBatchProperties;
+import co.tyrell.omdb_mcp_server.model.mcp.McpNotification;
 import co.tyrell.omdb_mcp_server.model.mcp.McpRequest;
 import co.tyrell.omdb_mcp_server.model.mcp.McpResponse;
 import co.tyrell.omdb_mcp_server.model.mcp.McpTool;
@@ -8,26 +12,74 @@ import co.tyrell.omdb_mcp_server.model.omdb.OmdbMovie;
 import co.tyrell.omdb_mcp_server.model.omdb.OmdbSearchResponse;
 // Make sure OmdbService exists at this package path, or update the import to the correct location.
 import co.tyrell.omdb_mcp_server.service.OmdbService;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiFunction;
 
 /**
  * Service implementing MCP protocol for OMDB operations
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class McpService {
     
     private final OmdbService omdbService;
+    private final OmdbBatchService omdbBatchService;
+    private final OmdbBatchProperties batchProperties;
+    private final LocalTitleIndex localTitleIndex;
+    private final LocalIndexProperties localIndexProperties;
     private final McpProperties mcpProperties;
+    private final OmdbJsonWriter omdbJsonWriter;
+    private final ToolOutputRenderer renderer;
+    private final McpToolRegistry toolRegistry;
+    private final Map<String, BiFunction<McpRequest, McpResponse, Mono<McpResponse>>> methodHandlers;
+    
+    public McpService(OmdbService omdbService, OmdbBatchService omdbBatchService, OmdbBatchProperties batchProperties,
+                      LocalTitleIndex localTitleIndex, LocalIndexProperties localIndexProperties,
+                      McpProperties mcpProperties, OmdbJsonWriter omdbJsonWriter, ToolOutputRenderer renderer,
+                      ObjectMapper objectMapper) {
+        this.omdbService = omdbService;
+        this.omdbBatchService = omdbBatchService;
+        this.batchProperties = batchProperties;
+        this.localTitleIndex = localTitleIndex;
+        this.localIndexProperties = localIndexProperties;
+        this.mcpProperties = mcpProperties;
+        this.omdbJsonWriter = omdbJsonWriter;
+        this.renderer = renderer;
+        this.toolRegistry = McpToolRegistry.builder(objectMapper)
+                .register(createSearchMoviesTool(), MovieSearchTools.SearchMoviesRequest.class, this::handleSearchMovies)
+                .register(createLocalSearchTool(), MovieSearchTools.LocalSearchRequest.class, this::handleLocalSearch)
+                .register(createGetMovieDetailsTool(), MovieSearchTools.MovieDetailsRequest.class, this::handleGetMovieDetails)
+                .register(createGetMovieByImdbIdTool(), MovieSearchTools.MovieByImdbIdRequest.class, this::handleGetMovieByImdbId)
+                .register(createGetMoviesByImdbIdsTool(), MovieSearchTools.MoviesByImdbIdsRequest.class, this::handleGetMoviesByImdbIds,
+                        this::streamGetMoviesByImdbIds)
+                .build();
+        this.methodHandlers = Map.of(
+                "initialize", this::handleInitialize,
+                "tools/list", this::handleToolsList,
+                "tools/call", this::handleToolCall,
+                "ping", this::handlePing,
+                "notifications/initialized", this::handleInitialized);
+        log.info("Registered {} MCP tools", toolRegistry.getTools().size());
+    }
+    
+    /**
+     * The tools offered over MCP, with their handlers
+     */
+    public McpToolRegistry getToolRegistry() {
+        return toolRegistry;
+    }
     
     /**
      * Handle MCP requests
@@ -38,35 +90,69 @@ public class McpService {
         McpResponse response = new McpResponse();
         response.setId(request.getId());
         
-        return switch (request.getMethod()) {
-            case "initialize" -> handleInitialize(request, response);
-            case "tools/list" -> handleToolsList(request, response);
-            case "tools/call" -> handleToolCall(request, response);
-            case "ping" -> handlePing(request, response);
-            case "notifications/initialized" -> handleInitialized(request, response);
-            default -> {
-                response.setError(createError(-32601, "Method not found", null));
-                yield Mono.just(response);
-            }
-        };
+        var handler = request.getMethod() != null ? methodHandlers.get(request.getMethod()) : null;
+        if (handler == null) {
+            response.setError(createError(-32601, "Method not found", null));
+            return Mono.just(response);
+        }
+        return handler.apply(request, response);
+    }
+    
+    /**
+     * Handle an MCP request as a stream: for tool calls whose tool streams, partial result notifications
+     * as soon as each part resolves, along with progress notifications if the request carries a
+     * {@code _meta.progressToken}, then the response. Other requests, and requests without an id to
+     * refer to, stream just their response.
+     */
+    public Flux<Object> streamRequest(McpRequest request) {
+        log.debug("Streaming MCP request: {}", request.getMethod());
+        
+        JsonNode params = request.getParams();
+        if (!"tools/call".equals(request.getMethod()) || request.getId() == null || params == null) {
+            return handleRequest(request).flux().cast(Object.class);
+        }
+        
+        McpResponse response = new McpResponse();
+        response.setId(request.getId());
+        
+        return toolRegistry.find(params.path("name").textValue())
+                .map(registration -> {
+                    try {
+                        return registration.stream(params.get("arguments"), progressToken(params), response);
+                    } catch (IllegalArgumentException e) {
+                        response.setError(createError(-32602, e.getMessage(), null));
+                        return Flux.<Object>just(response);
+                    }
+                })
+                .orElseGet(() -> handleRequest(request).flux().cast(Object.class));
+    }
+    
+    /**
+     * The progress token the client sent with the request, a string or an integer, or null if it sent none
+     */
+    private static Object progressToken(JsonNode params) {
+        JsonNode token = params.path("_meta").path("progressToken");
+        if (token.isTextual()) {
+            return token.textValue();
+        }
+        return token.isIntegralNumber() ? token.longValue() : null;
     }
     
     private Mono<McpResponse> handleInitialize(McpRequest request, McpResponse response) {
         // Validate client protocol version
-        Map<String, Object> params = request.getParams();
+        JsonNode params = request.getParams();
         if (params != null) {
-            String clientProtocolVersion = (String) params.get("protocolVersion");
+            String clientProtocolVersion = params.path("protocolVersion").textValue();
             if (clientProtocolVersion != null && !clientProtocolVersion.equals("2024-11-05")) {
                 log.warn("Client protocol version mismatch: {} (expected: 2024-11-05)", clientProtocolVersion);
             }
             
             // Log client info for debugging
-            @SuppressWarnings("unchecked")
-            Map<String, Object> clientInfo = (Map<String, Object>) params.get("clientInfo");
-            if (clientInfo != null) {
+            JsonNode clientInfo = params.get("clientInfo");
+            if (clientInfo != null && clientInfo.isObject()) {
                 log.info("Client connected: {} v{}", 
-                    clientInfo.get("name"), 
-                    clientInfo.get("version"));
+                    clientInfo.path("name").asText(), 
+                    clientInfo.path("version").asText());
             }
         }
         
@@ -112,62 +198,51 @@ public class McpService {
     }
     
     private Mono<McpResponse> handleToolsList(McpRequest request, McpResponse response) {
-        List<McpTool> tools = Arrays.asList(
-                createSearchMoviesTool(),
-                createGetMovieDetailsTool(),
-                createGetMovieByImdbIdTool()
-        );
-        
-        response.setResult(Map.of("tools", tools));
+        // Serialized once when the registry was built
+        response.setResult(toolRegistry.getToolsListResult());
         return Mono.just(response);
     }
     
     private Mono<McpResponse> handleToolCall(McpRequest request, McpResponse response) {
-        Map<String, Object> params = request.getParams();
-        String toolName = (String) params.get("name");
-        @SuppressWarnings("unchecked")
-        Map<String, Object> arguments = (Map<String, Object>) params.get("arguments");
-        
-        return switch (toolName) {
-            case "search_movies" -> handleSearchMovies(arguments, response);
-            case "get_movie_details" -> handleGetMovieDetails(arguments, response);
-            case "get_movie_by_imdb_id" -> handleGetMovieByImdbId(arguments, response);
-            default -> {
-                response.setError(createError(-32602, "Invalid tool name", null));
-                yield Mono.just(response);
-            }
-        };
+        JsonNode params = request.getParams();
+        String toolName = params != null ? params.path("name").textValue() : null;
+        
+        return toolRegistry.find(toolName)
+                .map(registration -> {
+                    try {
+                        return registration.call(params.get("arguments"), response);
+                    } catch (IllegalArgumentException e) {
+                        response.setError(createError(-32602, e.getMessage(), null));
+                        return Mono.just(response);
+                    }
+                })
+                .orElseGet(() -> {
+                    response.setError(createError(-32602, "Invalid tool name", null));
+                    return Mono.just(response);
+                });
     }
     
-    private Mono<McpResponse> handleSearchMovies(Map<String, Object> arguments, McpResponse response) {
-        String title = (String) arguments.get("title");
-        String year = (String) arguments.get("year");
-        String type = (String) arguments.get("type");
+    private Mono<McpResponse> handleSearchMovies(MovieSearchTools.SearchMoviesRequest arguments, McpResponse response) {
+        String title = arguments.title();
+        String year = arguments.year();
+        String type = arguments.type();
+        Integer page = arguments.page();
+        Integer maxResults = arguments.maxResults();
+        boolean enrich = Boolean.TRUE.equals(arguments.enrich());
+        Integer limit = arguments.limit();
         
         if (title == null || title.trim().isEmpty()) {
             response.setError(createError(-32602, "Title parameter is required", null));
             return Mono.just(response);
         }
         
-        return omdbService.searchMovies(title, year, type)
-                .map(searchResponse -> {
-                    if ("True".equals(searchResponse.getResponse())) {
-                        response.setResult(Map.of(
-                                "content", List.of(Map.of(
-                                        "type", "text",
-                                        "text", formatSearchResults(searchResponse)
-                                ))
-                        ));
-                    } else {
-                        response.setResult(Map.of(
-                                "content", List.of(Map.of(
-                                        "type", "text",
-                                        "text", "No movies found: " + (searchResponse.getError() != null ? searchResponse.getError() : "Unknown error")
-                                ))
-                        ));
-                    }
+        return omdbBatchService.search(title, year, type, page, maxResults)
+                .flatMap(searchResponse -> hydrate(searchResponse, enrich, limit).map(details -> {
+                    Integer enrichCount = enrich && searchResponse.isSuccessful() ? omdbBatchService.enrichCount(searchResponse, limit) : null;
+                    OmdbCacheKey source = OmdbBatchService.searchKey(title, year, type, page, maxResults);
+                    response.setResult(renderer.search(source, searchResponse, details, enrichCount).result());
                     return response;
-                })
+                }))
                 .onErrorResume(error -> {
                     log.error("Error searching movies", error);
                     response.setError(createError(-32603, "Internal error: " + error.getMessage(), null));
@@ -175,10 +250,40 @@ public class McpService {
                 });
     }
     
-    private Mono<McpResponse> handleGetMovieDetails(Map<String, Object> arguments, McpResponse response) {
-        String title = (String) arguments.get("title");
-        String year = (String) arguments.get("year");
-        String plot = (String) arguments.get("plot");
+    private Mono<McpResponse> handleLocalSearch(MovieSearchTools.LocalSearchRequest arguments, McpResponse response) {
+        String title = arguments.title();
+        String year = arguments.year();
+        String type = arguments.type();
+        Integer limit = arguments.limit();
+        boolean fallback = !Boolean.FALSE.equals(arguments.fallback());
+        
+        if (title == null || title.trim().isEmpty()) {
+            response.setError(createError(-32602, "Title parameter is required", null));
+            return Mono.just(response);
+        }
+        
+        List<LocalTitleIndex.Hit> hits = localTitleIndex.search(title, year, type, limit != null ? limit : 10);
+        if (hits.isEmpty() && fallback) {
+            log.debug("No local match for '{}', falling back to OMDB", title);
+            return handleSearchMovies(new MovieSearchTools.SearchMoviesRequest(title, year, type), response);
+        }
+        
+        response.setResult(renderer.localResults(hits).result());
+        return Mono.just(response);
+    }
+    
+    private Mono<Map<String, OmdbMovie>> hydrate(OmdbSearchResponse searchResponse, boolean enrich, Integer limit) {
+        if (!enrich || !"True".equals(searchResponse.getResponse())) {
+            return Mono.just(Map.of());
+        }
+        return omdbBatchService.hydrateSearchResults(searchResponse, limit);
+    }
+    
+    private Mono<McpResponse> handleGetMovieDetails(MovieSearchTools.MovieDetailsRequest arguments, McpResponse response) {
+        String title = arguments.title();
+        String year = arguments.year();
+        String plot = arguments.plot();
+        boolean json = OmdbJsonWriter.isJson(arguments.format());
         
         if (title == null || title.trim().isEmpty()) {
             response.setError(createError(-32602, "Title parameter is required", null));
@@ -187,21 +292,9 @@ public class McpService {
         
         return omdbService.getMovieByTitle(title, year, plot)
                 .map(movie -> {
-                    if ("True".equals(movie.getResponse())) {
-                        response.setResult(Map.of(
-                                "content", List.of(Map.of(
-                                        "type", "text",
-                                        "text", formatMovieDetails(movie)
-                                ))
-                        ));
-                    } else {
-                        response.setResult(Map.of(
-                                "content", List.of(Map.of(
-                                        "type", "text",
-                                        "text", "Movie not found: " + (movie.getError() != null ? movie.getError() : "Unknown error")
-                                ))
-                        ));
-                    }
+                    response.setResult(movie.isSuccessful() && json
+                            ? createJsonResult(omdbJsonWriter.toJson(movie))
+                            : renderer.movie(movie).result());
                     return response;
                 })
                 .onErrorResume(error -> {
@@ -211,9 +304,10 @@ public class McpService {
                 });
     }
     
-    private Mono<McpResponse> handleGetMovieByImdbId(Map<String, Object> arguments, McpResponse response) {
-        String imdbId = (String) arguments.get("imdbId");
-        String plot = (String) arguments.get("plot");
+    private Mono<McpResponse> handleGetMovieByImdbId(MovieSearchTools.MovieByImdbIdRequest arguments, McpResponse response) {
+        String imdbId = arguments.imdbId();
+        String plot = arguments.plot();
+        boolean json = OmdbJsonWriter.isJson(arguments.format());
         
         if (imdbId == null || imdbId.trim().isEmpty()) {
             response.setError(createError(-32602, "imdbId parameter is required", null));
@@ -222,21 +316,9 @@ public class McpService {
         
         return omdbService.getMovieByImdbId(imdbId, plot)
                 .map(movie -> {
-                    if ("True".equals(movie.getResponse())) {
-                        response.setResult(Map.of(
-                                "content", List.of(Map.of(
-                                        "type", "text",
-                                        "text", formatMovieDetails(movie)
-                                ))
-                        ));
-                    } else {
-                        response.setResult(Map.of(
-                                "content", List.of(Map.of(
-                                        "type", "text",
-                                        "text", "Movie not found: " + (movie.getError() != null ? movie.getError() : "Unknown error")
-                                ))
-                        ));
-                    }
+                    response.setResult(movie.isSuccessful() && json
+                            ? createJsonResult(omdbJsonWriter.toJson(movie))
+                            : renderer.movie(movie).result());
                     return response;
                 })
                 .onErrorResume(error -> {
@@ -246,42 +328,80 @@ public class McpService {
                 });
     }
     
-    private String formatSearchResults(OmdbSearchResponse searchResponse) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("Search Results (").append(searchResponse.getTotalResults()).append(" total):\n\n");
-        
-        if (searchResponse.getSearch() != null) {
-            for (int i = 0; i < searchResponse.getSearch().length; i++) {
-                OmdbSearchResponse.SearchResult movie = searchResponse.getSearch()[i];
-                sb.append(i + 1).append(". ");
-                sb.append(movie.getTitle()).append(" (").append(movie.getYear()).append(")\n");
-                sb.append("   Type: ").append(movie.getType()).append("\n");
-                sb.append("   IMDB ID: ").append(movie.getImdbId()).append("\n\n");
-            }
+    /**
+     * Tool result carrying the OMDB JSON both as text and as structured content. The JSON is written
+     * into the response as is rather than parsed and serialized again.
+     */
+    private Map<String, Object> createJsonResult(String json) {
+        return Map.of(
+                "content", List.of(Map.of(
+                        "type", "text",
+                        "text", json
+                )),
+                "structuredContent", new RawValue(json)
+        );
+    }
+    
+    private Mono<McpResponse> handleGetMoviesByImdbIds(MovieSearchTools.MoviesByImdbIdsRequest arguments, McpResponse response) {
+        List<String> imdbIds = arguments.imdbIds();
+        String plot = arguments.plot();
+        
+        if (imdbIds == null || imdbIds.isEmpty()) {
+            response.setError(createError(-32602, "imdbIds parameter is required and must be a non-empty array", null));
+            return Mono.just(response);
         }
         
-        return sb.toString();
+        return omdbBatchService.getMoviesByImdbIds(imdbIds, plot)
+                .map(lookups -> {
+                    response.setResult(renderer.batch(lookups).result());
+                    return response;
+                })
+                .onErrorResume(IllegalArgumentException.class, error -> {
+                    response.setError(createError(-32602, error.getMessage(), null));
+                    return Mono.just(response);
+                })
+                .onErrorResume(error -> {
+                    log.error("Error getting movies by IMDB IDs", error);
+                    response.setError(createError(-32603, "Internal error: " + error.getMessage(), null));
+                    return Mono.just(response);
+                });
     }
     
-    private String formatMovieDetails(OmdbMovie movie) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("🎬 ").append(movie.getTitle()).append(" (").append(movie.getYear()).append(")\n\n");
-        
-        if (movie.getRated() != null) sb.append("Rating: ").append(movie.getRated()).append("\n");
-        if (movie.getRuntime() != null) sb.append("Runtime: ").append(movie.getRuntime()).append("\n");
-        if (movie.getGenre() != null) sb.append("Genre: ").append(movie.getGenre()).append("\n");
-        if (movie.getDirector() != null) sb.append("Director: ").append(movie.getDirector()).append("\n");
-        if (movie.getActors() != null) sb.append("Cast: ").append(movie.getActors()).append("\n");
-        if (movie.getImdbRating() != null) sb.append("IMDB Rating: ").append(movie.getImdbRating()).append("/10\n");
-        if (movie.getMetascore() != null) sb.append("Metacritic Score: ").append(movie.getMetascore()).append("/100\n");
-        
-        sb.append("\nPlot:\n").append(movie.getPlot() != null ? movie.getPlot() : "No plot available");
-        
-        if (movie.getAwards() != null) {
-            sb.append("\n\nAwards: ").append(movie.getAwards());
+    /**
+     * Stream a batch lookup: the movie's details, and progress if the client asked for it, as each lookup
+     * completes, then the response with all movies in request order
+     */
+    private Flux<Object> streamGetMoviesByImdbIds(MovieSearchTools.MoviesByImdbIdsRequest arguments, Object progressToken,
+                                                  McpResponse response) {
+        List<String> imdbIds = OmdbBatchService.distinct(arguments.imdbIds());
+        if (imdbIds.isEmpty()) {
+            return handleGetMoviesByImdbIds(arguments, response).flux().cast(Object.class);
         }
         
-        return sb.toString();
+        // Lookups are emitted one at a time, so the list needs no synchronization
+        List<OmdbBatchService.MovieLookup> lookups = new ArrayList<>(imdbIds.size());
+        return omdbBatchService.streamMoviesByImdbIds(imdbIds, arguments.plot())
+                .flatMapIterable(lookup -> {
+                    lookups.add(lookup);
+                    McpNotification partialResult = McpNotification.partialResult(response.getId(), renderer.lookup(lookup));
+                    return progressToken != null
+                            ? List.<Object>of(McpNotification.progress(progressToken, lookups.size(), imdbIds.size()), partialResult)
+                            : List.<Object>of(partialResult);
+                })
+                .concatWith(Mono.fromSupplier(() -> {
+                    lookups.sort(Comparator.comparingInt(lookup -> imdbIds.indexOf(lookup.imdbId())));
+                    response.setResult(renderer.batch(lookups).result());
+                    return response;
+                }))
+                .onErrorResume(IllegalArgumentException.class, error -> {
+                    response.setError(createError(-32602, error.getMessage(), null));
+                    return Mono.just(response);
+                })
+                .onErrorResume(error -> {
+                    log.error("Error streaming movies by IMDB IDs", error);
+                    response.setError(createError(-32603, "Internal error: " + error.getMessage(), null));
+                    return Mono.just(response);
+                });
     }
     
     private McpTool createSearchMoviesTool() {
@@ -317,6 +437,94 @@ public class McpService {
         typeProp.setDefaultValue("movie");
         properties.put("type", typeProp);
         
+        // Page property (optional)
+        McpTool.InputSchema.Property pageProp = new McpTool.InputSchema.Property();
+        pageProp.setType("integer");
+        pageProp.setDescription("Result page, 10 results per page (optional, default: 1)");
+        pageProp.setMinimum(1);
+        pageProp.setMaximum(100);
+        pageProp.setDefaultValue(1);
+        properties.put("page", pageProp);
+        
+        // Max results property (optional)
+        McpTool.InputSchema.Property maxResultsProp = new McpTool.InputSchema.Property();
+        maxResultsProp.setType("integer");
+        maxResultsProp.setDescription("Gather up to this many results across pages instead of a single page (optional)");
+        maxResultsProp.setMinimum(1);
+        maxResultsProp.setMaximum(batchProperties.getSearchMaxResults());
+        properties.put("maxResults", maxResultsProp);
+        
+        // Enrich property (optional)
+        McpTool.InputSchema.Property enrichProp = new McpTool.InputSchema.Property();
+        enrichProp.setType("boolean");
+        enrichProp.setDescription("Include details (genre, director, rating, plot) for the top results (optional)");
+        enrichProp.setDefaultValue(false);
+        properties.put("enrich", enrichProp);
+        
+        // Limit property (optional)
+        McpTool.InputSchema.Property limitProp = new McpTool.InputSchema.Property();
+        limitProp.setType("integer");
+        limitProp.setDescription("Number of top results to include details for when enrich is set (optional)");
+        limitProp.setMinimum(1);
+        limitProp.setMaximum(batchProperties.getEnrichMaxLimit());
+        limitProp.setDefaultValue(batchProperties.getEnrichDefaultLimit());
+        properties.put("limit", limitProp);
+        
+        schema.setProperties(properties);
+        schema.setRequired(List.of("title"));
+        schema.setAdditionalProperties(false);
+        tool.setInputSchema(schema);
+        
+        return tool;
+    }
+    
+    private McpTool createLocalSearchTool() {
+        McpTool tool = new McpTool();
+        tool.setName("local_search");
+        tool.setDescription("Search movies seen in earlier results by title, prefix or with small typos, calling OMDB only when nothing matches");
+        
+        McpTool.InputSchema schema = new McpTool.InputSchema();
+        Map<String, McpTool.InputSchema.Property> properties = new HashMap<>();
+        
+        // Title property (required)
+        McpTool.InputSchema.Property titleProp = new McpTool.InputSchema.Property();
+        titleProp.setType("string");
+        titleProp.setDescription("Movie title or the start of it");
+        titleProp.setMinLength(1);
+        titleProp.setMaxLength(100);
+        titleProp.setExamples(List.of("The Matrix", "incep", "godfathr"));
+        properties.put("title", titleProp);
+        
+        // Year property (optional)
+        McpTool.InputSchema.Property yearProp = new McpTool.InputSchema.Property();
+        yearProp.setType("string");
+        yearProp.setDescription("Year of release (optional, format: YYYY)");
+        yearProp.setPattern("^\\d{4}$");
+        properties.put("year", yearProp);
+        
+        // Type property (optional)
+        McpTool.InputSchema.Property typeProp = new McpTool.InputSchema.Property();
+        typeProp.setType("string");
+        typeProp.setDescription("Type of result (optional)");
+        typeProp.setEnumValues(List.of("movie", "series", "episode"));
+        properties.put("type", typeProp);
+        
+        // Limit property (optional)
+        McpTool.InputSchema.Property limitProp = new McpTool.InputSchema.Property();
+        limitProp.setType("integer");
+        limitProp.setDescription("Maximum number of results (optional)");
+        limitProp.setMinimum(1);
+        limitProp.setMaximum(localIndexProperties.getMaxResults());
+        limitProp.setDefaultValue(10);
+        properties.put("limit", limitProp);
+        
+        // Fallback property (optional)
+        McpTool.InputSchema.Property fallbackProp = new McpTool.InputSchema.Property();
+        fallbackProp.setType("boolean");
+        fallbackProp.setDescription("Search OMDB when nothing matches locally (optional)");
+        fallbackProp.setDefaultValue(true);
+        properties.put("fallback", fallbackProp);
+        
         schema.setProperties(properties);
         schema.setRequired(List.of("title"));
         schema.setAdditionalProperties(false);
@@ -355,6 +563,7 @@ public class McpService {
         plotProp.setEnumValues(List.of("short", "full"));
         plotProp.setDefaultValue("full");
         properties.put("plot", plotProp);
+        properties.put("format", createFormatProperty());
         
         schema.setProperties(properties);
         schema.setRequired(List.of("title"));
@@ -387,6 +596,7 @@ public class McpService {
         plotProp.setEnumValues(List.of("short", "full"));
         plotProp.setDefaultValue("full");
         properties.put("plot", plotProp);
+        properties.put("format", createFormatProperty());
         
         schema.setProperties(properties);
         schema.setRequired(List.of("imdbId"));
@@ -396,6 +606,52 @@ public class McpService {
         return tool;
     }
     
+    private McpTool.InputSchema.Property createFormatProperty() {
+        McpTool.InputSchema.Property formatProp = new McpTool.InputSchema.Property();
+        formatProp.setType("string");
+        formatProp.setDescription("Output format: text, or json for the OMDB record as structured content (optional, default: text)");
+        formatProp.setEnumValues(List.of("text", "json"));
+        formatProp.setDefaultValue("text");
+        return formatProp;
+    }
+    
+    private McpTool createGetMoviesByImdbIdsTool() {
+        McpTool tool = new McpTool();
+        tool.setName("get_movies_by_imdb_ids");
+        tool.setDescription("Get detailed information about several movies at once using a list of IMDB IDs");
+        
+        McpTool.InputSchema schema = new McpTool.InputSchema();
+        Map<String, McpTool.InputSchema.Property> properties = new HashMap<>();
+        
+        // IMDB IDs property (required)
+        McpTool.InputSchema.Property imdbIdItem = new McpTool.InputSchema.Property();
+        imdbIdItem.setType("string");
+        imdbIdItem.setPattern("^tt\\d{7,8}$");
+        
+        McpTool.InputSchema.Property imdbIdsProp = new McpTool.InputSchema.Property();
+        imdbIdsProp.setType("array");
+        imdbIdsProp.setDescription("IMDB IDs to look up; duplicates are ignored and results keep the given order");
+        imdbIdsProp.setItems(imdbIdItem);
+        imdbIdsProp.setMinItems(1);
+        imdbIdsProp.setMaxItems(batchProperties.getMaxIds());
+        properties.put("imdbIds", imdbIdsProp);
+        
+        // Plot property (optional)
+        McpTool.InputSchema.Property plotProp = new McpTool.InputSchema.Property();
+        plotProp.setType("string");
+        plotProp.setDescription("Plot length: short or full (optional, default: full)");
+        plotProp.setEnumValues(List.of("short", "full"));
+        plotProp.setDefaultValue("full");
+        properties.put("plot", plotProp);
+        
+        schema.setProperties(properties);
+        schema.setRequired(List.of("imdbIds"));
+        schema.setAdditionalProperties(false);
+        tool.setInputSchema(schema);
+        
+        return tool;
+    }
+    
     private McpResponse.McpError createError(int code, String message, Object data) {
         McpResponse.McpError error = new McpResponse.McpError();
         error.setCode(code);
@@ -0,0 +1,149 @@
+package co.tyrell.omdb_mcp_server.service;
+
+import co.tyrell.omdb_mcp_server.model.mcp.McpResponse;
+import co.tyrell.omdb_mcp_server.model.mcp.McpTool;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.util.RawValue;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable catalog of the MCP tools and their handlers, built once at startup.
+ * Each tool declares its definition, the record its arguments bind to and its handler in one place.
+ * Arguments are bound with a reader prepared at registration, and the {@code tools/list} result is
+ * serialized when the registry is built and written out as is. Tools may also register a stream handler,
+ * which sends notifications with partial results ahead of the response.
+ */
+public final class McpToolRegistry {
+
+    /**
+     * Handles a {@code tools/call} for one tool, with the arguments bound to {@code T}
+     */
+    @FunctionalInterface
+    public interface ToolHandler<T> {
+        Mono<McpResponse> handle(T arguments, McpResponse response);
+    }
+
+    /**
+     * Handles a streamed {@code tools/call} for one tool: notifications as results become available,
+     * then the response. Progress is only reported when the client sent a progress token, which is
+     * null otherwise.
+     */
+    @FunctionalInterface
+    public interface StreamHandler<T> {
+        Flux<Object> stream(T arguments, Object progressToken, McpResponse response);
+    }
+
+    /**
+     * A tool definition together with its argument binding and handlers. The stream handler is optional.
+     */
+    public record Registration<T>(McpTool tool, ObjectReader argumentsReader, ToolHandler<T> handler, StreamHandler<T> streamHandler) {
+
+        /**
+         * Bind the arguments and call the handler. Missing arguments bind as an empty object.
+         *
+         * @throws IllegalArgumentException if the arguments do not bind to the tool's argument type
+         */
+        public Mono<McpResponse> call(JsonNode arguments, McpResponse response) {
+            return handler.handle(bind(arguments), response);
+        }
+
+        /**
+         * Bind the arguments and stream the call, or call the handler if the tool has no stream handler
+         *
+         * @throws IllegalArgumentException if the arguments do not bind to the tool's argument type
+         */
+        public Flux<Object> stream(JsonNode arguments, Object progressToken, McpResponse response) {
+            T bound = bind(arguments);
+            return streamHandler != null
+                    ? streamHandler.stream(bound, progressToken, response)
+                    : handler.handle(bound, response).flux().cast(Object.class);
+        }
+
+        private T bind(JsonNode arguments) {
+            try {
+                return argumentsReader.readValue(arguments == null || arguments.isMissingNode() || arguments.isNull()
+                        ? JsonNodeFactory.instance.objectNode() : arguments);
+            } catch (IOException e) {
+                String message = e instanceof JsonProcessingException jsonError ? jsonError.getOriginalMessage() : e.getMessage();
+                throw new IllegalArgumentException("Invalid arguments for " + tool.getName() + ": " + message, e);
+            }
+        }
+    }
+
+    private final Map<String, Registration<?>> registrations;
+    private final List<McpTool> tools;
+    private final RawValue toolsListResult;
+
+    private McpToolRegistry(Map<String, Registration<?>> registrations, ObjectMapper objectMapper) {
+        this.registrations = Collections.unmodifiableMap(registrations);
+        this.tools = registrations.values().stream().<McpTool>map(Registration::tool).toList();
+        try {
+            // SerializedString keeps its UTF-8 encoding, so the bytes are only computed once
+            this.toolsListResult = new RawValue(new SerializedString(
+                    objectMapper.writeValueAsString(Map.of("tools", tools))));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize MCP tool catalog", e);
+        }
+    }
+
+    public static Builder builder(ObjectMapper objectMapper) {
+        return new Builder(objectMapper);
+    }
+
+    public Optional<Registration<?>> find(String name) {
+        return name != null ? Optional.ofNullable(registrations.get(name)) : Optional.empty();
+    }
+
+    /**
+     * Tool definitions in registration order
+     */
+    public List<McpTool> getTools() {
+        return tools;
+    }
+
+    /**
+     * The serialized {@code tools/list} result, for use as a response result
+     */
+    public RawValue getToolsListResult() {
+        return toolsListResult;
+    }
+
+    public static final class Builder {
+
+        private final ObjectMapper objectMapper;
+        private final Map<String, Registration<?>> registrations = new LinkedHashMap<>();
+
+        private Builder(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+        }
+
+        public <T> Builder register(McpTool tool, Class<T> argumentsType, ToolHandler<T> handler) {
+            return register(tool, argumentsType, handler, null);
+        }
+
+        public <T> Builder register(McpTool tool, Class<T> argumentsType, ToolHandler<T> handler, StreamHandler<T> streamHandler) {
+            Registration<T> registration = new Registration<>(tool, objectMapper.readerFor(argumentsType), handler, streamHandler);
+            if (registrations.putIfAbsent(tool.getName(), registration) != null) {
+                throw new IllegalArgumentException("Duplicate MCP tool: " + tool.getName());
+            }
+            return this;
+        }
+
+        public McpToolRegistry build() {
+            return new McpToolRegistry(new LinkedHashMap<>(registrations), objectMapper);
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package co.tyrell.omdb_mcp_server.service;
 
+import co.tyrell.omdb_mcp_server.cache.OmdbCacheKey;
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbMovie;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
 
 /**
  * Movie search tools for Spring AI MCP integration
@@ -15,104 +21,183 @@ import org.springframework.stereotype.Service;
 public class MovieSearchTools {
     
     private final OmdbService omdbService;
+    private final OmdbBatchService omdbBatchService;
+    private final LocalTitleIndex localTitleIndex;
+    private final OmdbJsonWriter omdbJsonWriter;
+    private final ToolOutputRenderer renderer;
+    
+    private static final int DEFAULT_LOCAL_RESULTS = 10;
     
     /**
      * Search for movies by title in the OMDB database
      */
-    public String searchMovies(String title, String year, String type) {
-        log.info("Searching movies with title: {}, year: {}, type: {}", title, year, type);
+    public Mono<String> searchMoviesAsync(String title, String year, String type) {
+        return searchMoviesAsync(new SearchMoviesRequest(title, year, type));
+    }
+    
+    /**
+     * Search for movies by title: one page, or up to {@code maxResults} results gathered across pages,
+     * optionally hydrating the top hits with movie details in the same call
+     */
+    public Mono<String> searchMoviesAsync(SearchMoviesRequest request) {
+        log.info("Searching movies with {}", request);
         
-        try {
-            var searchResponse = omdbService.searchMovies(title, year, type).block();
-            
-            if (searchResponse != null && "True".equals(searchResponse.getResponse())) {
-                return formatSearchResults(searchResponse);
-            } else {
-                return "No movies found: " + (searchResponse != null ? searchResponse.getError() : "Unknown error");
-            }
-        } catch (Exception e) {
-            log.error("Error searching movies", e);
-            return "Error searching movies: " + e.getMessage();
-        }
+        return Mono.defer(() -> omdbBatchService.search(request.title(), request.year(), request.type(), request.page(), request.maxResults())
+                        .flatMap(searchResponse -> {
+                            if (!searchResponse.isSuccessful() || !Boolean.TRUE.equals(request.enrich())) {
+                                OmdbCacheKey source = OmdbBatchService.searchKey(request.title(), request.year(), request.type(),
+                                        request.page(), request.maxResults());
+                                return Mono.just(renderer.search(source, searchResponse, Map.of(), null).text());
+                            }
+                            return omdbBatchService.hydrateSearchResults(searchResponse, request.limit())
+                                    .map(details -> renderer.search(null, searchResponse, details,
+                                            omdbBatchService.enrichCount(searchResponse, request.limit())).text());
+                        }))
+                .defaultIfEmpty("No movies found: Unknown error")
+                .onErrorResume(e -> {
+                    log.error("Error searching movies", e);
+                    return Mono.just("Error searching movies: " + e.getMessage());
+                });
+    }
+    
+    /**
+     * Search the local index of movies seen in earlier OMDB responses, falling back to an OMDB search
+     * when nothing matches
+     */
+    public Mono<String> localSearchAsync(LocalSearchRequest request) {
+        log.info("Searching local title index with {}", request);
+        int limit = request.limit() != null ? request.limit() : DEFAULT_LOCAL_RESULTS;
+        
+        return Mono.defer(() -> {
+                    List<LocalTitleIndex.Hit> hits = localTitleIndex.search(request.title(), request.year(), request.type(), limit);
+                    if (!hits.isEmpty() || Boolean.FALSE.equals(request.fallback())) {
+                        return Mono.just(renderer.localResults(hits).text());
+                    }
+                    log.debug("No local match for '{}', falling back to OMDB", request.title());
+                    return searchMoviesAsync(request.title(), request.year(), request.type());
+                })
+                .onErrorResume(e -> {
+                    log.error("Error searching local title index", e);
+                    return Mono.just("Error searching local title index: " + e.getMessage());
+                });
     }
     
     /**
      * Get detailed information about a specific movie by title
      */
-    public String getMovieDetails(String title, String year, String plot) {
+    public Mono<String> getMovieDetailsAsync(String title, String year, String plot) {
+        return getMovieDetailsAsync(title, year, plot, null);
+    }
+    
+    /**
+     * Get detailed information about a specific movie by title, as text or with format {@code json} as OMDB JSON
+     */
+    public Mono<String> getMovieDetailsAsync(String title, String year, String plot, String format) {
         log.info("Getting movie details for title: {}, year: {}, plot: {}", title, year, plot);
         
-        try {
-            var movie = omdbService.getMovieByTitle(title, year, plot).block();
-            
-            if (movie != null && "True".equals(movie.getResponse())) {
-                return formatMovieDetails(movie);
-            } else {
-                return "Movie not found: " + (movie != null ? movie.getError() : "Unknown error");
-            }
-        } catch (Exception e) {
-            log.error("Error getting movie details", e);
-            return "Error getting movie details: " + e.getMessage();
-        }
+        return Mono.defer(() -> omdbService.getMovieByTitle(title, year, plot)
+                        .map(movie -> render(movie, format)))
+                .defaultIfEmpty("Movie not found: Unknown error")
+                .onErrorResume(e -> {
+                    log.error("Error getting movie details", e);
+                    return Mono.just("Error getting movie details: " + e.getMessage());
+                });
     }
     
     /**
      * Get detailed information about a movie by IMDB ID
      */
-    public String getMovieByImdbId(String imdbId, String plot) {
+    public Mono<String> getMovieByImdbIdAsync(String imdbId, String plot) {
+        return getMovieByImdbIdAsync(imdbId, plot, null);
+    }
+    
+    /**
+     * Get detailed information about a movie by IMDB ID, as text or with format {@code json} as OMDB JSON
+     */
+    public Mono<String> getMovieByImdbIdAsync(String imdbId, String plot, String format) {
         log.info("Getting movie by IMDB ID: {}, plot: {}", imdbId, plot);
         
-        try {
-            var movie = omdbService.getMovieByImdbId(imdbId, plot).block();
-            
-            if (movie != null && "True".equals(movie.getResponse())) {
-                return formatMovieDetails(movie);
-            } else {
-                return "Movie not found: " + (movie != null ? movie.getError() : "Unknown error");
-            }
-        } catch (Exception e) {
-            log.error("Error getting movie by IMDB ID", e);
-            return "Error getting movie by IMDB ID: " + e.getMessage();
-        }
+        return Mono.defer(() -> omdbService.getMovieByImdbId(imdbId, plot)
+                        .map(movie -> render(movie, format)))
+                .defaultIfEmpty("Movie not found: Unknown error")
+                .onErrorResume(e -> {
+                    log.error("Error getting movie by IMDB ID", e);
+                    return Mono.just("Error getting movie by IMDB ID: " + e.getMessage());
+                });
     }
     
-    private String formatSearchResults(co.tyrell.omdb_mcp_server.model.omdb.OmdbSearchResponse searchResponse) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("Search Results (").append(searchResponse.getTotalResults()).append(" total):\n\n");
-        
-        if (searchResponse.getSearch() != null) {
-            for (int i = 0; i < searchResponse.getSearch().length; i++) {
-                var movie = searchResponse.getSearch()[i];
-                sb.append(i + 1).append(". ");
-                sb.append(movie.getTitle()).append(" (").append(movie.getYear()).append(")\n");
-                sb.append("   Type: ").append(movie.getType()).append("\n");
-                sb.append("   IMDB ID: ").append(movie.getImdbId()).append("\n\n");
-            }
-        }
+    /**
+     * Get detailed information about several movies by IMDB ID in one call
+     */
+    public Mono<String> getMoviesByImdbIdsAsync(List<String> imdbIds, String plot) {
+        log.info("Getting movies by IMDB IDs: {}, plot: {}", imdbIds, plot);
         
-        return sb.toString();
+        return Mono.defer(() -> omdbBatchService.getMoviesByImdbIds(imdbIds, plot))
+                .map(lookups -> renderer.batch(lookups).text())
+                .onErrorResume(e -> {
+                    log.error("Error getting movies by IMDB IDs", e);
+                    return Mono.just("Error getting movies by IMDB IDs: " + e.getMessage());
+                });
     }
     
-    private String formatMovieDetails(co.tyrell.omdb_mcp_server.model.omdb.OmdbMovie movie) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("🎬 ").append(movie.getTitle()).append(" (").append(movie.getYear()).append(")\n");
-        
-        if (movie.getImdbId() != null) sb.append("IMDB ID: ").append(movie.getImdbId()).append("\n");
-        if (movie.getRated() != null) sb.append("Rating: ").append(movie.getRated()).append("\n");
-        if (movie.getRuntime() != null) sb.append("Runtime: ").append(movie.getRuntime()).append("\n");
-        if (movie.getGenre() != null) sb.append("Genre: ").append(movie.getGenre()).append("\n");
-        if (movie.getDirector() != null) sb.append("Director: ").append(movie.getDirector()).append("\n");
-        if (movie.getActors() != null) sb.append("Cast: ").append(movie.getActors()).append("\n");
-        if (movie.getImdbRating() != null) sb.append("IMDB Rating: ").append(movie.getImdbRating()).append("/10\n");
-        if (movie.getMetascore() != null) sb.append("Metacritic Score: ").append(movie.getMetascore()).append("/100\n");
-        
-        sb.append("\nPlot:\n").append(movie.getPlot() != null ? movie.getPlot() : "No plot available");
-        
-        if (movie.getAwards() != null) {
-            sb.append("\n\nAwards: ").append(movie.getAwards());
-        }
-        
-        return sb.toString();
+    /**
+     * Blocking variant of {@link #searchMoviesAsync(String, String, String)} for SYNC server mode
+     */
+    public String searchMovies(String title, String year, String type) {
+        return searchMoviesAsync(title, year, type).block();
+    }
+    
+    /**
+     * Blocking variant of {@link #searchMoviesAsync(SearchMoviesRequest)} for SYNC server mode
+     */
+    public String searchMovies(SearchMoviesRequest request) {
+        return searchMoviesAsync(request).block();
+    }
+    
+    /**
+     * Blocking variant of {@link #localSearchAsync(LocalSearchRequest)} for SYNC server mode
+     */
+    public String localSearch(LocalSearchRequest request) {
+        return localSearchAsync(request).block();
+    }
+    
+    /**
+     * Blocking variant of {@link #getMovieDetailsAsync(String, String, String)} for SYNC server mode
+     */
+    public String getMovieDetails(String title, String year, String plot) {
+        return getMovieDetailsAsync(title, year, plot).block();
+    }
+    
+    /**
+     * Blocking variant of {@link #getMovieDetailsAsync(String, String, String, String)} for SYNC server mode
+     */
+    public String getMovieDetails(String title, String year, String plot, String format) {
+        return getMovieDetailsAsync(title, year, plot, format).block();
+    }
+    
+    /**
+     * Blocking variant of {@link #getMovieByImdbIdAsync(String, String)} for SYNC server mode
+     */
+    public String getMovieByImdbId(String imdbId, String plot) {
+        return getMovieByImdbIdAsync(imdbId, plot).block();
+    }
+    
+    /**
+     * Blocking variant of {@link #getMovieByImdbIdAsync(String, String, String)} for SYNC server mode
+     */
+    public String getMovieByImdbId(String imdbId, String plot, String format) {
+        return getMovieByImdbIdAsync(imdbId, plot, format).block();
+    }
+    
+    /**
+     * Blocking variant of {@link #getMoviesByImdbIdsAsync(List, String)} for SYNC server mode
+     */
+    public String getMoviesByImdbIds(List<String> imdbIds, String plot) {
+        return getMoviesByImdbIdsAsync(imdbIds, plot).block();
+    }
+    
+    private String render(OmdbMovie movie, String format) {
+        return OmdbJsonWriter.isJson(format) && movie.isSuccessful() ? omdbJsonWriter.toJson(movie) : renderer.movie(movie).text();
     }
     
     // Request record classes for type safety with JSON Schema annotations
@@ -123,7 +208,33 @@ public class MovieSearchTools {
         @Schema(description = "Release year (optional)")
         String year,
         @Schema(description = "Type: movie, series, or episode (optional)")
-        String type
+        String type,
+        @Schema(description = "Result page, 10 results per page (optional, default: 1)")
+        Integer page,
+        @Schema(description = "Gather up to this many results across pages instead of a single page (optional)")
+        Integer maxResults,
+        @Schema(description = "Include details (genre, director, rating, plot) for the top results (optional)")
+        Boolean enrich,
+        @Schema(description = "Number of top results to include details for when enrich is set (optional, default: 5)")
+        Integer limit
+    ) {
+        public SearchMoviesRequest(String title, String year, String type) {
+            this(title, year, type, null, null, null, null);
+        }
+    }
+    
+    @Schema(description = "Request to search the local index of movies seen before")
+    public record LocalSearchRequest(
+        @Schema(description = "Movie title or the start of it; small typos are tolerated", required = true)
+        String title,
+        @Schema(description = "Release year (optional)")
+        String year,
+        @Schema(description = "Type: movie, series, or episode (optional)")
+        String type,
+        @Schema(description = "Maximum number of results (optional, default: 10)")
+        Integer limit,
+        @Schema(description = "Search OMDB when nothing matches locally (optional, default: true)")
+        Boolean fallback
     ) {}
     
     @Schema(description = "Request to get detailed movie information")
@@ -133,6 +244,20 @@ public class MovieSearchTools {
         @Schema(description = "Release year (optional)")
         String year,
         @Schema(description = "Plot length: short or full (default: full)")
+        String plot,
+        @Schema(description = "Output format: text or json for the OMDB record as JSON (default: text)")
+        String format
+    ) {
+        public MovieDetailsRequest(String title, String year, String plot) {
+            this(title, year, plot, null);
+        }
+    }
+    
+    @Schema(description = "Request to get several movies by IMDB ID")
+    public record MoviesByImdbIdsRequest(
+        @Schema(description = "IMDB IDs (e.g., [\"tt0133093\", \"tt1375666\"]); duplicates are ignored", required = true)
+        List<String> imdbIds,
+        @Schema(description = "Plot length: short or full (default: full)")
         String plot
     ) {}
     
@@ -141,6 +266,12 @@ public class MovieSearchTools {
         @Schema(description = "IMDB ID (e.g., tt0133093)", required = true)
         String imdbId,
         @Schema(description = "Plot length: short or full (default: full)")
-        String plot
-    ) {}
+        String plot,
+        @Schema(description = "Output format: text or json for the OMDB record as JSON (default: text)")
+        String format
+    ) {
+        public MovieByImdbIdRequest(String imdbId, String plot) {
+            this(imdbId, plot, null);
+        }
+    }
 }
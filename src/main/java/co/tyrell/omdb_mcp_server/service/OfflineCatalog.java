@@ -0,0 +1,202 @@
+package co.tyrell.omdb_mcp_server.service;
+
+import co.tyrell.omdb_mcp_server.cache.OmdbCacheKey;
+import co.tyrell.omdb_mcp_server.config.OfflineCatalogProperties;
+import co.tyrell.omdb_mcp_server.config.OmdbProperties;
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbMovie;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Offline movie catalog imported from a local file of JSON lines, each an OMDB movie record.
+ * Lookups by IMDB ID and by title are answered from the catalog before OMDB is called.
+ * <p>
+ * The file is read line by line, so it is never held in memory as a whole. Each movie is kept as its
+ * compact JSON encoding and only decoded when looked up. A re-import builds new tables and swaps
+ * them in, so lookups keep being served from the previous catalog while it runs.
+ */
+@Component
+@Slf4j
+public class OfflineCatalog implements CacheStatsContributor, InitializingBean {
+
+    /**
+     * Outcome of an import
+     */
+    public record ImportResult(String file, long records, long skipped, long bytes, long durationMs, double recordsPerSecond) {
+    }
+
+    private record Tables(Map<String, byte[]> moviesByImdbId, Map<OmdbCacheKey, String> imdbIdsByTitle) {
+    }
+
+    private final OfflineCatalogProperties properties;
+    private final ObjectMapper objectMapper;
+    private final boolean keepRawJson;
+
+    private volatile Tables tables = new Tables(Map.of(), Map.of());
+    private volatile ImportResult lastImport;
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+
+    @Autowired
+    public OfflineCatalog(OfflineCatalogProperties properties, ObjectMapper objectMapper, OmdbProperties omdbProperties) {
+        this(properties, objectMapper, omdbProperties.isKeepRawJson());
+    }
+
+    OfflineCatalog(OfflineCatalogProperties properties, ObjectMapper objectMapper, boolean keepRawJson) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.keepRawJson = keepRawJson;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        if (properties.isEnabled() && properties.isLoadOnStartup()) {
+            reload();
+        }
+    }
+
+    /**
+     * Import the configured catalog file again
+     */
+    public ImportResult reload() throws IOException {
+        return importFile(Path.of(properties.getFile()));
+    }
+
+    /**
+     * Look up the movie for an IMDB ID or title cache key. The catalog holds one plot per movie,
+     * which is served whatever plot length was asked for.
+     */
+    public Optional<OmdbMovie> find(OmdbCacheKey key) {
+        Tables current = tables;
+        if (current.moviesByImdbId().isEmpty()) {
+            return Optional.empty();
+        }
+
+        lookups.increment();
+        String imdbId = switch (key.operation()) {
+            case IMDB_ID -> key.query();
+            case TITLE -> current.imdbIdsByTitle().get(titleKey(key.query(), key.year()));
+            case SEARCH -> null;
+        };
+        byte[] encoded = imdbId != null ? current.moviesByImdbId().get(imdbId) : null;
+        if (encoded == null) {
+            return Optional.empty();
+        }
+
+        try {
+            OmdbMovie movie = objectMapper.readValue(encoded, OmdbMovie.class);
+            if (keepRawJson) {
+                movie.setRawJson(new String(encoded, StandardCharsets.UTF_8));
+            }
+            hits.increment();
+            return Optional.of(movie);
+        } catch (IOException e) {
+            log.warn("Could not decode catalog entry for {}: {}", imdbId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Import a catalog file, replacing the current catalog once the whole file has been read.
+     * Lines that are not valid movie records are skipped.
+     */
+    public synchronized ImportResult importFile(Path file) throws IOException {
+        long start = System.nanoTime();
+        Map<String, byte[]> moviesByImdbId = new HashMap<>();
+        Map<OmdbCacheKey, String> imdbIdsByTitle = new HashMap<>();
+        long skipped = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                OmdbMovie movie = parse(line);
+                if (movie == null) {
+                    skipped++;
+                    continue;
+                }
+
+                String imdbId = OmdbCacheKey.imdbId(movie.getImdbId(), null).query();
+                moviesByImdbId.put(imdbId, objectMapper.writeValueAsBytes(movie));
+                imdbIdsByTitle.put(titleKey(movie.getTitle(), movie.getYear()), imdbId);
+                imdbIdsByTitle.putIfAbsent(titleKey(movie.getTitle(), null), imdbId);
+            }
+        }
+
+        tables = new Tables(moviesByImdbId, imdbIdsByTitle);
+        long durationNanos = Math.max(System.nanoTime() - start, 1);
+        ImportResult result = new ImportResult(file.toString(), moviesByImdbId.size(), skipped, Files.size(file),
+                TimeUnit.NANOSECONDS.toMillis(durationNanos),
+                moviesByImdbId.size() * (double) TimeUnit.SECONDS.toNanos(1) / durationNanos);
+        lastImport = result;
+        log.info("Imported {} catalog movies from {} in {} ms ({} records/s, {} lines skipped)",
+                result.records(), file, result.durationMs(), Math.round(result.recordsPerSecond()), skipped);
+        return result;
+    }
+
+    public int size() {
+        return tables.moviesByImdbId().size();
+    }
+
+    private OmdbMovie parse(String line) {
+        try {
+            OmdbMovie movie = objectMapper.readValue(line, OmdbMovie.class);
+            if (!StringUtils.hasText(movie.getImdbId()) || !StringUtils.hasText(movie.getTitle()) || "False".equals(movie.getResponse())) {
+                return null;
+            }
+            if (movie.getResponse() == null) {
+                movie.setResponse("True");
+            }
+            return movie;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Titles are keyed like title lookups, so the same normalization applies
+     */
+    private static OmdbCacheKey titleKey(String title, String year) {
+        return OmdbCacheKey.title(title, year, null);
+    }
+
+    @Override
+    public String getStatsName() {
+        return "offlineCatalog";
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        long total = lookups.sum();
+        long found = hits.sum();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", properties.isEnabled());
+        stats.put("entries", size());
+        stats.put("lookupCount", total);
+        stats.put("hitCount", found);
+        stats.put("hitRate", total == 0 ? 0.0 : (double) found / total);
+        stats.put("lastImport", lastImport);
+        return stats;
+    }
+}
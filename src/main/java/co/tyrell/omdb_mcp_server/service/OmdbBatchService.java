@@ -0,0 +1,238 @@
+package co.tyrell.omdb_mcp_server.service;
+
+import co.tyrell.omdb_mcp_server.cache.OmdbCacheKey;
+import co.tyrell.omdb_mcp_server.config.OmdbBatchProperties;
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbMovie;
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbSearchResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Batch lookups fanned out over {@link OmdbService}.
+ * Calls go through the caching proxy, so cached movies are answered immediately and only misses
+ * take one of the concurrency slots for an upstream call.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OmdbBatchService {
+    
+    private static final int OMDB_PAGE_SIZE = 10;
+    
+    private final OmdbService omdbService;
+    private final OmdbBatchProperties batchProperties;
+    
+    /**
+     * Outcome of a single lookup in a batch: the movie, or the error that prevented fetching it
+     */
+    public record MovieLookup(String imdbId, OmdbMovie movie, String error) {
+        
+        public boolean isFound() {
+            return movie != null && movie.isSuccessful();
+        }
+    }
+    
+    /**
+     * Look up movies by IMDB ID. Duplicate and blank IDs are dropped and results keep the order
+     * in which IDs first appear.
+     *
+     * @throws IllegalArgumentException if more distinct IDs are requested than allowed
+     */
+    public Mono<List<MovieLookup>> getMoviesByImdbIds(List<String> imdbIds, String plot) {
+        List<String> distinctIds = distinct(imdbIds);
+        if (distinctIds.size() > batchProperties.getMaxIds()) {
+            return Mono.error(tooManyIds(distinctIds));
+        }
+        
+        log.debug("Batch lookup of {} IMDB IDs with concurrency {}", distinctIds.size(), batchProperties.getConcurrency());
+        return Flux.fromIterable(distinctIds)
+                .flatMapSequential(imdbId -> lookup(imdbId, plot), Math.max(batchProperties.getConcurrency(), 1))
+                .collectList();
+    }
+    
+    /**
+     * Look up movies by IMDB ID like {@link #getMoviesByImdbIds(List, String)}, but emit each lookup
+     * as soon as it completes instead of in request order
+     */
+    public Flux<MovieLookup> streamMoviesByImdbIds(List<String> imdbIds, String plot) {
+        List<String> distinctIds = distinct(imdbIds);
+        if (distinctIds.size() > batchProperties.getMaxIds()) {
+            return Flux.error(tooManyIds(distinctIds));
+        }
+        
+        return Flux.fromIterable(distinctIds)
+                .flatMap(imdbId -> lookup(imdbId, plot), Math.max(batchProperties.getConcurrency(), 1));
+    }
+    
+    private IllegalArgumentException tooManyIds(List<String> distinctIds) {
+        return new IllegalArgumentException(
+                "At most " + batchProperties.getMaxIds() + " IMDB IDs can be requested at once, got " + distinctIds.size());
+    }
+    
+    /**
+     * Search for movies: a single page, or with {@code maxResults} the results of as many pages as
+     * needed, combined into one response
+     */
+    public Mono<OmdbSearchResponse> search(String title, String year, String type, Integer page, Integer maxResults) {
+        if (maxResults != null) {
+            int limit = searchLimit(maxResults);
+            return searchPages(title, year, type, limit).collectList()
+                    .map(pages -> combinePages(pages, limit));
+        }
+        return page != null && page > 1
+                ? omdbService.searchMovies(title, year, type, page)
+                : omdbService.searchMovies(title, year, type);
+    }
+    
+    /**
+     * Cache key of the response {@link #search(String, String, String, Integer, Integer)} returns, or null
+     * if it combines several pages
+     */
+    public static OmdbCacheKey searchKey(String title, String year, String type, Integer page, Integer maxResults) {
+        if (maxResults != null) {
+            return null;
+        }
+        return OmdbCacheKey.search(title, year, type, page != null && page > 1 ? page : null);
+    }
+    
+    /**
+     * Stream the search pages holding the first {@code limit} results, in page order. The first page
+     * tells how many pages exist; the rest are fetched concurrently within the prefetch window and
+     * each is emitted as soon as the pages before it are. The stream ends early at the first page
+     * that fails, so the results emitted never have gaps.
+     */
+    Flux<OmdbSearchResponse> searchPages(String title, String year, String type, int limit) {
+        return omdbService.searchMovies(title, year, type).flatMapMany(first -> {
+            if (!first.isSuccessful()) {
+                return Flux.just(first);
+            }
+            
+            int available = Math.min(limit, totalResults(first));
+            int pages = (available + OMDB_PAGE_SIZE - 1) / OMDB_PAGE_SIZE;
+            log.debug("Fetching {} search pages for '{}' with prefetch {}", pages, title, batchProperties.getSearchPrefetch());
+            Flux<OmdbSearchResponse> rest = Flux.range(2, Math.max(pages - 1, 0))
+                    .flatMapSequential(page -> omdbService.searchMovies(title, year, type, page)
+                            .onErrorResume(error -> {
+                                log.warn("Search page {} for '{}' failed: {}", page, title, error.getMessage());
+                                return Mono.empty();
+                            })
+                            .defaultIfEmpty(new OmdbSearchResponse()),
+                            Math.max(batchProperties.getSearchPrefetch(), 1), 1)
+                    .takeWhile(OmdbSearchResponse::isSuccessful);
+            return Flux.concat(Mono.just(first), rest);
+        });
+    }
+    
+    /**
+     * Number of search results to gather for the requested maximum, capped by configuration
+     */
+    public int searchLimit(Integer maxResults) {
+        int requested = maxResults != null ? maxResults : OMDB_PAGE_SIZE;
+        return Math.min(Math.max(requested, 1), batchProperties.getSearchMaxResults());
+    }
+    
+    private static OmdbSearchResponse combinePages(List<OmdbSearchResponse> pages, int limit) {
+        OmdbSearchResponse first = pages.get(0);
+        if (!first.isSuccessful()) {
+            return first;
+        }
+        
+        List<OmdbSearchResponse.SearchResult> results = new ArrayList<>();
+        for (OmdbSearchResponse page : pages) {
+            results.addAll(hits(page));
+        }
+        
+        OmdbSearchResponse combined = new OmdbSearchResponse();
+        combined.setResponse(first.getResponse());
+        combined.setTotalResults(first.getTotalResults());
+        combined.setSearch(results.stream().limit(limit).toArray(OmdbSearchResponse.SearchResult[]::new));
+        return combined;
+    }
+    
+    private static List<OmdbSearchResponse.SearchResult> hits(OmdbSearchResponse page) {
+        return page.getSearch() != null ? Arrays.asList(page.getSearch()) : List.of();
+    }
+    
+    private static int totalResults(OmdbSearchResponse response) {
+        try {
+            return Integer.parseInt(response.getTotalResults());
+        } catch (NumberFormatException e) {
+            return hits(response).size();
+        }
+    }
+    
+    /**
+     * Hydrate the first {@code limit} search hits with movie details, keyed by IMDB ID.
+     * Lookups still running when the enrichment deadline passes are left out; their upstream
+     * calls carry on and are cached for a follow-up lookup.
+     */
+    public Mono<Map<String, OmdbMovie>> hydrateSearchResults(OmdbSearchResponse searchResponse, Integer limit) {
+        int effectiveLimit = enrichLimit(limit);
+        if (searchResponse.getSearch() == null || effectiveLimit == 0) {
+            return Mono.just(Map.of());
+        }
+        
+        List<String> imdbIds = distinct(Arrays.stream(searchResponse.getSearch())
+                .limit(effectiveLimit)
+                .map(OmdbSearchResponse.SearchResult::getImdbId)
+                .toList());
+        return Flux.fromIterable(imdbIds)
+                .flatMap(imdbId -> lookup(imdbId, null), Math.max(batchProperties.getConcurrency(), 1))
+                .filter(MovieLookup::isFound)
+                .take(batchProperties.getEnrichDeadline())
+                .collectMap(MovieLookup::imdbId, MovieLookup::movie);
+    }
+    
+    /**
+     * Number of top results of the search that details are loaded for with the given limit
+     */
+    public int enrichCount(OmdbSearchResponse searchResponse, Integer limit) {
+        int hits = searchResponse.getSearch() != null ? searchResponse.getSearch().length : 0;
+        return Math.min(enrichLimit(limit), hits);
+    }
+    
+    /**
+     * Number of search hits to hydrate for the requested limit, defaulted and capped by configuration
+     */
+    public int enrichLimit(Integer limit) {
+        int requested = limit != null ? limit : batchProperties.getEnrichDefaultLimit();
+        return Math.min(Math.max(requested, 0), batchProperties.getEnrichMaxLimit());
+    }
+    
+    private Mono<MovieLookup> lookup(String imdbId, String plot) {
+        return Mono.defer(() -> omdbService.getMovieByImdbId(imdbId, plot))
+                .map(movie -> new MovieLookup(imdbId, movie, null))
+                .defaultIfEmpty(new MovieLookup(imdbId, null, "Unknown error"))
+                .onErrorResume(error -> {
+                    log.warn("Batch lookup of {} failed: {}", imdbId, error.getMessage());
+                    return Mono.just(new MovieLookup(imdbId, null, error.getMessage()));
+                });
+    }
+    
+    /**
+     * Trimmed IDs in order of first appearance, ignoring case and blank IDs
+     */
+    static List<String> distinct(List<String> imdbIds) {
+        Map<String, String> distinct = new LinkedHashMap<>();
+        if (imdbIds != null) {
+            for (String imdbId : imdbIds) {
+                if (StringUtils.hasText(imdbId)) {
+                    String trimmed = imdbId.trim();
+                    distinct.putIfAbsent(trimmed.toLowerCase(Locale.ROOT), trimmed);
+                }
+            }
+        }
+        return new ArrayList<>(distinct.values());
+    }
+}
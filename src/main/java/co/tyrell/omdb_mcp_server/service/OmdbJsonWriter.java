@@ -0,0 +1,36 @@
+package co.tyrell.omdb_mcp_server.service;
+
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbMovie;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Movies as OMDB JSON for the {@code json} output format. With {@code omdb.api.keep-raw-json}, movies
+ * fetched from OMDB or the offline catalog carry the JSON they were read from, which is passed through
+ * as is; other movies are serialized on each call. Movies are never modified, as they may be shared cache entries.
+ */
+@Component
+@RequiredArgsConstructor
+public class OmdbJsonWriter {
+
+    public static final String FORMAT_JSON = "json";
+
+    private final ObjectMapper objectMapper;
+
+    public static boolean isJson(String format) {
+        return FORMAT_JSON.equalsIgnoreCase(format);
+    }
+
+    public String toJson(OmdbMovie movie) {
+        if (movie.getRawJson() != null) {
+            return movie.getRawJson();
+        }
+        try {
+            return objectMapper.writeValueAsString(movie);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize movie " + movie.getImdbId(), e);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package co.tyrell.omdb_mcp_server.service;
+
+import co.tyrell.omdb_mcp_server.config.OmdbQuotaProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Client-side governor for outbound OMDB calls: a token bucket limits the call rate and a daily
+ * budget limits the total number of calls. Lower-priority calls are refused first as the budget
+ * runs low, keeping the remainder for lookups that are more likely to be needed.
+ */
+@Component
+@Slf4j
+public class OmdbQuotaGovernor implements CacheStatsContributor {
+
+    /**
+     * Priority of an upstream call
+     */
+    public enum Priority {
+        /** Lookups by IMDB ID, allowed until the daily budget is spent */
+        HIGH,
+        /** Lookups by title, refused once half of the reserve is in use */
+        NORMAL,
+        /** Speculative searches, refused once the reserve is reached */
+        LOW
+    }
+
+    private static final long DAILY_BUDGET_SPENT = -1;
+    private static final long RATE_LIMITED = -2;
+
+    private final OmdbQuotaProperties properties;
+    private final Clock clock;
+    private final ZoneId zone;
+    private final long intervalNanos;
+    private final long burstNanos;
+
+    private long nextFreeNanos = Long.MIN_VALUE / 2;
+    private LocalDate day;
+    private long usedToday;
+
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder staleFallbacks = new LongAdder();
+
+    @Autowired
+    public OmdbQuotaGovernor(OmdbQuotaProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    OmdbQuotaGovernor(OmdbQuotaProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.zone = ZoneId.of(properties.getZoneId());
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / properties.getPermitsPerSecond());
+        this.burstNanos = intervalNanos * Math.max(properties.getBurst(), 1);
+        this.day = LocalDate.now(clock.withZone(zone));
+    }
+
+    /**
+     * Run the upstream call once the rate limit and daily budget allow it for the given priority,
+     * or fail with {@link QuotaExceededException}
+     */
+    public <T> Mono<T> execute(Priority priority, Supplier<Mono<T>> upstreamCall) {
+        if (!properties.isEnabled()) {
+            return Mono.defer(upstreamCall);
+        }
+
+        return Mono.defer(() -> {
+            long waitNanos = acquire(priority);
+            if (waitNanos < 0) {
+                rejected.increment();
+                return Mono.error(new QuotaExceededException(rejectionReason(priority, waitNanos)));
+            }
+            if (waitNanos == 0) {
+                return upstreamCall.get();
+            }
+
+            throttled.increment();
+            log.debug("Delaying {} priority OMDB call by {} ms to stay within the rate limit", priority, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+            return Mono.delay(Duration.ofNanos(waitNanos)).then(Mono.defer(upstreamCall));
+        });
+    }
+
+    /**
+     * Record that a refused call was answered from stale cache data
+     */
+    public void recordStaleFallback() {
+        staleFallbacks.increment();
+    }
+
+    /**
+     * Reserve a permit, returning how long to wait for it in nanoseconds or a negative reason code
+     */
+    private synchronized long acquire(Priority priority) {
+        rollOverDay();
+        if (properties.getDailyBudget() >= 0 && usedToday >= allowance(priority)) {
+            return DAILY_BUDGET_SPENT;
+        }
+
+        long now = System.nanoTime();
+        long maxWait = properties.getMaxWait().toNanos();
+        if (priority == Priority.LOW) {
+            maxWait /= 2;
+        }
+
+        // Permits accumulate while idle, up to the burst size
+        long earliest = Math.max(nextFreeNanos, now - burstNanos + intervalNanos);
+        long wait = Math.max(earliest - now, 0);
+        if (wait > maxWait) {
+            return RATE_LIMITED;
+        }
+
+        nextFreeNanos = earliest + intervalNanos;
+        usedToday++;
+        return wait;
+    }
+
+    /**
+     * Number of calls made today after which calls of the given priority are refused
+     */
+    private long allowance(Priority priority) {
+        long budget = properties.getDailyBudget();
+        long reserve = (long) (budget * properties.getReservedFraction());
+        return switch (priority) {
+            case HIGH -> budget;
+            case NORMAL -> budget - reserve / 2;
+            case LOW -> budget - reserve;
+        };
+    }
+
+    private void rollOverDay() {
+        LocalDate today = LocalDate.now(clock.withZone(zone));
+        if (!today.equals(day)) {
+            day = today;
+            usedToday = 0;
+        }
+    }
+
+    private String rejectionReason(Priority priority, long code) {
+        return code == DAILY_BUDGET_SPENT
+                ? "OMDB daily budget exhausted for " + priority + " priority calls"
+                : "OMDB rate limit exceeded, please retry shortly";
+    }
+
+    @Override
+    public String getStatsName() {
+        return "omdbQuota";
+    }
+
+    @Override
+    public synchronized Map<String, Object> getStats() {
+        rollOverDay();
+        long budget = properties.getDailyBudget();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", properties.isEnabled());
+        stats.put("permitsPerSecond", properties.getPermitsPerSecond());
+        stats.put("dailyBudget", budget);
+        stats.put("usedToday", usedToday);
+        stats.put("remainingToday", budget < 0 ? -1 : Math.max(budget - usedToday, 0));
+        stats.put("budgetUsedRate", budget <= 0 ? 0.0 : (double) usedToday / budget);
+        stats.put("throttledCount", throttled.sum());
+        stats.put("rejectedCount", rejected.sum());
+        stats.put("staleFallbackCount", staleFallbacks.sum());
+        return stats;
+    }
+}
@@ -0,0 +1,175 @@
+package co.tyrell.omdb_mcp_server.service;
+
+import co.tyrell.omdb_mcp_server.config.OmdbResilienceProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Resilience layer around upstream OMDB calls: a circuit breaker that fails fast while OMDB is
+ * unhealthy, jittered retries of transient failures and optional hedged requests once a call is
+ * slower than the configured percentile of recent latencies.
+ */
+@Component
+@Slf4j
+public class OmdbResilience implements CacheStatsContributor {
+
+    private static final int LATENCY_SAMPLES = 256;
+
+    private final OmdbResilienceProperties properties;
+    private final CircuitBreaker circuitBreaker;
+    private final LatencyTracker latencies = new LatencyTracker(LATENCY_SAMPLES);
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+
+    public OmdbResilience(OmdbResilienceProperties properties) {
+        this.properties = properties;
+        this.circuitBreaker = new CircuitBreaker(properties.getCircuitBreaker());
+    }
+
+    /**
+     * Run an upstream call through the circuit breaker, retries and hedging.
+     * Fails with {@link CircuitOpenException} without calling upstream while the breaker is open.
+     */
+    public <T> Mono<T> execute(Supplier<Mono<T>> upstreamCall) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                rejected.increment();
+                return Mono.error(new CircuitOpenException("OMDB is unavailable, failing fast until it recovers"));
+            }
+
+            return withRetry(hedged(upstreamCall))
+                    .doOnSuccess(value -> circuitBreaker.onSuccess())
+                    .doOnError(error -> {
+                        if (isTransient(error)) {
+                            circuitBreaker.onFailure();
+                        } else {
+                            circuitBreaker.onIgnored();
+                        }
+                    })
+                    .doOnCancel(circuitBreaker::onIgnored);
+        });
+    }
+
+    private <T> Mono<T> withRetry(Mono<T> call) {
+        OmdbResilienceProperties.Retry retry = properties.getRetry();
+        if (!retry.isEnabled() || retry.getMaxRetries() <= 0) {
+            return call;
+        }
+
+        return call.retryWhen(Retry.backoff(retry.getMaxRetries(), retry.getInitialBackoff())
+                .maxBackoff(retry.getMaxBackoff())
+                .jitter(retry.getJitter())
+                .filter(OmdbResilience::isTransient)
+                .doBeforeRetry(signal -> {
+                    retries.increment();
+                    log.debug("Retrying OMDB call after {}", signal.failure().toString());
+                })
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    /**
+     * Time the call and, with hedging enabled, race it against an identical call started once the
+     * first has been outstanding for longer than the configured latency percentile.
+     * The first value wins; a failed or refused hedge never cancels the primary, and when no value
+     * arrives the primary's own outcome is reported.
+     */
+    private <T> Mono<T> hedged(Supplier<Mono<T>> upstreamCall) {
+        Mono<T> timed = Mono.defer(() -> {
+            long start = System.nanoTime();
+            return upstreamCall.get().doOnSuccess(value -> latencies.record(System.nanoTime() - start));
+        });
+
+        Duration delay = hedgeDelay();
+        if (delay == null) {
+            return timed;
+        }
+        return Mono.defer(() -> {
+            AtomicReference<Throwable> primaryFailure = new AtomicReference<>();
+            Sinks.One<Throwable> primaryFailed = Sinks.one();
+            Mono<T> primary = timed.doOnError(error -> {
+                primaryFailure.set(error);
+                primaryFailed.tryEmitValue(error);
+            });
+            Mono<T> hedge = Mono.delay(delay)
+                    .takeUntilOther(primaryFailed.asMono())
+                    .doOnNext(tick -> {
+                        hedges.increment();
+                        log.debug("Sending hedged OMDB request after {} ms", delay.toMillis());
+                    })
+                    .flatMap(tick -> timed)
+                    .onErrorResume(error -> {
+                        log.debug("Hedged OMDB request failed, waiting on the primary: {}", error.toString());
+                        return Mono.empty();
+                    });
+            return Mono.firstWithValue(primary, hedge)
+                    .onErrorResume(NoSuchElementException.class, error -> primaryFailure.get() != null
+                            ? Mono.error(primaryFailure.get())
+                            : Mono.empty());
+        });
+    }
+
+    private Duration hedgeDelay() {
+        OmdbResilienceProperties.Hedge hedge = properties.getHedge();
+        if (!hedge.isEnabled() || latencies.size() < hedge.getMinimumSamples()) {
+            return null;
+        }
+        long nanos = latencies.percentile(hedge.getPercentile());
+        long clamped = Math.min(Math.max(nanos, hedge.getMinDelay().toNanos()), hedge.getMaxDelay().toNanos());
+        return Duration.ofNanos(clamped);
+    }
+
+    /**
+     * Failures that say something about OMDB health and are safe to retry: every OMDB call is an idempotent GET
+     */
+    static boolean isTransient(Throwable error) {
+        if (error instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError();
+        }
+        return error instanceof WebClientRequestException
+                || error instanceof TimeoutException
+                || error instanceof IOException;
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    @Override
+    public String getStatsName() {
+        return "omdbResilience";
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("circuitState", circuitBreaker.getState().name());
+        stats.put("failureRate", circuitBreaker.getFailureRate());
+        stats.put("rejectedCount", rejected.sum());
+        stats.put("retryCount", retries.sum());
+        stats.put("hedgeCount", hedges.sum());
+        stats.put("latencyP50Ms", toMillis(latencies.percentile(0.5)));
+        stats.put("latencyP95Ms", toMillis(latencies.percentile(0.95)));
+        return stats;
+    }
+
+    private static long toMillis(long nanos) {
+        return nanos < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
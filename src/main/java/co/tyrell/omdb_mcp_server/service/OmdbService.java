@@ -1,17 +1,26 @@
 package co.tyrell.omdb_mcp_server.service;
 
+import co.tyrell.omdb_mcp_server.cache.NegativeResult;
+import co.tyrell.omdb_mcp_server.cache.OmdbCacheKey;
 import co.tyrell.omdb_mcp_server.config.CacheConfig;
 import co.tyrell.omdb_mcp_server.config.OmdbProperties;
 import co.tyrell.omdb_mcp_server.model.omdb.OmdbMovie;
 import co.tyrell.omdb_mcp_server.model.omdb.OmdbSearchResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
 /**
  * Service for interacting with OMDB API
  */
@@ -22,15 +31,207 @@ public class OmdbService {
     
     private final WebClient webClient;
     private final OmdbProperties omdbProperties;
+    private final InFlightRequestRegistry inFlightRequests;
+    private final CacheManager cacheManager;
+    private final OmdbQuotaGovernor quotaGovernor;
+    private final OmdbResilience resilience;
+    private final LocalTitleIndex localTitleIndex;
+    private final OfflineCatalog offlineCatalog;
+    private final ObjectMapper objectMapper;
     
     /**
      * Search for movies by title
      */
-    @Cacheable(value = CacheConfig.MOVIE_SEARCH_CACHE, key = "#title + '_' + (#year != null ? #year : 'null') + '_' + (#type != null ? #type : 'null')")
+    @Cacheable(value = CacheConfig.MOVIE_SEARCH_CACHE, keyGenerator = CacheConfig.KEY_GENERATOR,
+               unless = "#result == null || !#result.successful")
     public Mono<OmdbSearchResponse> searchMovies(String title, String year, String type) {
         log.debug("Searching movies with title: {}, year: {}, type: {} (cache miss)", title, year, type);
+        OmdbCacheKey key = OmdbCacheKey.search(title, year, type);
+        return withNegativeCache(key, OmdbSearchResponse.class, () -> fetchSearch(key));
+    }
+    
+    /**
+     * Get one page of search results (10 per page, starting at 1). The first page shares its cache
+     * entry with {@link #searchMovies(String, String, String)}.
+     */
+    @Cacheable(value = CacheConfig.MOVIE_SEARCH_CACHE, keyGenerator = CacheConfig.KEY_GENERATOR,
+               unless = "#result == null || !#result.successful")
+    public Mono<OmdbSearchResponse> searchMovies(String title, String year, String type, Integer page) {
+        log.debug("Searching movies with title: {}, year: {}, type: {}, page: {} (cache miss)", title, year, type, page);
+        OmdbCacheKey key = OmdbCacheKey.search(title, year, type, page);
+        return withNegativeCache(key, OmdbSearchResponse.class, () -> fetchSearch(key));
+    }
+    
+    /**
+     * Get movie details by title
+     */
+    @Cacheable(value = CacheConfig.MOVIE_BY_TITLE_CACHE, keyGenerator = CacheConfig.KEY_GENERATOR,
+               unless = "#result == null || !#result.successful")
+    public Mono<OmdbMovie> getMovieByTitle(String title, String year, String plot) {
+        log.debug("Getting movie by title: {}, year: {}, plot: {} (cache miss)", title, year, plot);
+        OmdbCacheKey key = OmdbCacheKey.title(title, year, plot);
+        return fromCatalog(key)
+                .switchIfEmpty(Mono.defer(() -> resolveByAlias(key)))
+                .switchIfEmpty(Mono.defer(() -> withNegativeCache(key, OmdbMovie.class, () -> fetchByTitle(key))
+                        .doOnNext(movie -> seedImdbIdCache(key, movie))));
+    }
+    
+    /**
+     * Get movie details by IMDB ID
+     */
+    @Cacheable(value = CacheConfig.MOVIE_BY_IMDB_ID_CACHE, keyGenerator = CacheConfig.KEY_GENERATOR,
+               unless = "#result == null || !#result.successful")
+    public Mono<OmdbMovie> getMovieByImdbId(String imdbId, String plot) {
+        log.debug("Getting movie by IMDB ID: {}, plot: {} (cache miss)", imdbId, plot);
+        OmdbCacheKey key = OmdbCacheKey.imdbId(imdbId, plot);
+        return fromCatalog(key)
+                .switchIfEmpty(Mono.defer(() -> withNegativeCache(key, OmdbMovie.class, () -> fetchByImdbId(key))));
+    }
+    
+    /**
+     * Fetch the response for a cache key from the offline catalog or directly from OMDB, bypassing
+     * the caches. Used to refresh cache entries in the background.
+     */
+    public Mono<?> fetch(OmdbCacheKey key) {
+        return switch (key.operation()) {
+            case SEARCH -> fetchSearch(key);
+            case TITLE -> fromCatalog(key).switchIfEmpty(Mono.defer(() -> fetchByTitle(key)));
+            case IMDB_ID -> fromCatalog(key).switchIfEmpty(Mono.defer(() -> fetchByImdbId(key)));
+        };
+    }
+    
+    private Mono<OmdbMovie> fromCatalog(OmdbCacheKey key) {
+        return Mono.defer(() -> Mono.justOrEmpty(offlineCatalog.find(key)))
+                .doOnNext(movie -> {
+                    log.debug("Answered {} from the offline catalog", key);
+                    localTitleIndex.index(movie);
+                });
+    }
+    
+    /**
+     * Resolve a title lookup seen before through the IMDB ID it resolved to, if that movie is still cached
+     */
+    private Mono<OmdbMovie> resolveByAlias(OmdbCacheKey titleKey) {
+        Cache aliases = cacheManager.getCache(CacheConfig.MOVIE_TITLE_ALIAS_CACHE);
+        Cache moviesByImdbId = cacheManager.getCache(CacheConfig.MOVIE_BY_IMDB_ID_CACHE);
+        if (aliases == null || moviesByImdbId == null) {
+            return Mono.empty();
+        }
+        
+        return fromCache(aliases, titleKey, String.class)
+                .flatMap(imdbId -> fromCache(moviesByImdbId, OmdbCacheKey.imdbId(imdbId, titleKey.variant()), OmdbMovie.class))
+                .doOnNext(movie -> {
+                    log.debug("Resolved title lookup {} through the IMDB ID cache", titleKey);
+                    localTitleIndex.index(movie);
+                });
+    }
+    
+    /**
+     * Store a successful title lookup in the IMDB ID cache under the resolved ID and the same plot length,
+     * and remember which ID the title resolved to
+     */
+    private void seedImdbIdCache(OmdbCacheKey titleKey, OmdbMovie movie) {
+        if (!movie.isSuccessful() || !StringUtils.hasText(movie.getImdbId())) {
+            return;
+        }
+        
+        OmdbCacheKey imdbIdKey = OmdbCacheKey.imdbId(movie.getImdbId(), titleKey.variant());
+        Cache moviesByImdbId = cacheManager.getCache(CacheConfig.MOVIE_BY_IMDB_ID_CACHE);
+        if (moviesByImdbId != null) {
+            moviesByImdbId.put(imdbIdKey, movie);
+        }
+        Cache aliases = cacheManager.getCache(CacheConfig.MOVIE_TITLE_ALIAS_CACHE);
+        if (aliases != null) {
+            aliases.put(titleKey, imdbIdKey.query());
+        }
+    }
+    
+    /**
+     * Serve a recent unsuccessful outcome for the key from the negative cache, or call OMDB and
+     * record {@code Response: "False"} answers and upstream errors in the negative cache.
+     * Successful responses are left to the response caches. Calls refused locally by the quota or the
+     * open circuit breaker say nothing about the key, so they are not recorded.
+     */
+    private <T> Mono<T> withNegativeCache(OmdbCacheKey key, Class<T> type, Supplier<Mono<T>> upstreamCall) {
+        Cache negativeCache = cacheManager.getCache(CacheConfig.MOVIE_NEGATIVE_CACHE);
+        if (negativeCache == null) {
+            return upstreamCall.get();
+        }
         
-        return webClient.get()
+        return fromCache(negativeCache, key, NegativeResult.class)
+                .doOnNext(hit -> log.debug("Negative cache hit for {}", key))
+                .flatMap(hit -> hit.replay(type))
+                .switchIfEmpty(Mono.defer(() -> upstreamCall.get()
+                        .doOnNext(response -> {
+                            if (!isSuccessful(response)) {
+                                negativeCache.put(key, NegativeResult.ofResponse(response));
+                            }
+                        })
+                        .doOnError(error -> !isLocalRefusal(error), error -> negativeCache.put(key, NegativeResult.ofError(error)))));
+    }
+    
+    private static <T> Mono<T> fromCache(Cache cache, Object key, Class<T> type) {
+        CompletableFuture<?> cached = cache.retrieve(key);
+        return cached != null ? Mono.fromFuture(cached).cast(type) : Mono.empty();
+    }
+    
+    private static boolean isLocalRefusal(Throwable error) {
+        return error instanceof QuotaExceededException || error instanceof CircuitOpenException;
+    }
+    
+    private static boolean isSuccessful(Object response) {
+        if (response instanceof OmdbMovie movie) {
+            return movie.isSuccessful();
+        }
+        return response instanceof OmdbSearchResponse searchResponse && searchResponse.isSuccessful();
+    }
+    
+    /**
+     * Make an upstream call, coalesced with identical in-flight calls, guarded by the circuit breaker
+     * and subject to the OMDB quota for every attempt. Successful responses are kept as last known good
+     * data and added to the local title index. A call refused by the quota or the open circuit breaker
+     * is answered from that data when available.
+     */
+    private <T> Mono<T> callUpstream(OmdbCacheKey key, Class<T> type, Supplier<Mono<T>> upstreamCall) {
+        Cache staleCache = cacheManager.getCache(CacheConfig.MOVIE_STALE_CACHE);
+        return inFlightRequests.execute(key, () -> resilience.execute(() -> quotaGovernor.execute(priorityOf(key), upstreamCall)))
+                .doOnNext(response -> {
+                    if (staleCache != null && isSuccessful(response)) {
+                        staleCache.put(key, response);
+                    }
+                    localTitleIndex.index(response);
+                })
+                .onErrorResume(e -> e instanceof QuotaExceededException || e instanceof CircuitOpenException, e -> {
+                    Mono<T> staleHit = staleCache != null ? fromCache(staleCache, key, type) : Mono.empty();
+                    return staleHit
+                            .doOnNext(hit -> {
+                                quotaGovernor.recordStaleFallback();
+                                log.info("Serving stale data for {}: {}", key, e.getMessage());
+                            })
+                            .switchIfEmpty(Mono.error(e));
+                });
+    }
+    
+    /**
+     * Lookups by ID are the most likely to be needed, searches the most speculative
+     */
+    private static OmdbQuotaGovernor.Priority priorityOf(OmdbCacheKey key) {
+        return switch (key.operation()) {
+            case IMDB_ID -> OmdbQuotaGovernor.Priority.HIGH;
+            case TITLE -> OmdbQuotaGovernor.Priority.NORMAL;
+            case SEARCH -> OmdbQuotaGovernor.Priority.LOW;
+        };
+    }
+    
+    /**
+     * Calls are made with the normalized key components and coalesced on the key
+     */
+    private Mono<OmdbSearchResponse> fetchSearch(OmdbCacheKey key) {
+        String title = key.query();
+        String year = key.year();
+        String type = key.variant();
+        int page = key.page();
+        return callUpstream(key, OmdbSearchResponse.class, () -> webClient.get()
                 .uri(uriBuilder -> {
                     uriBuilder.scheme("https")
                             .host("www.omdbapi.com")
@@ -46,22 +247,23 @@ public class OmdbService {
                         uriBuilder.queryParam("type", type);
                     }
                     
+                    if (page > 1) {
+                        uriBuilder.queryParam("page", page);
+                    }
+                    
                     return uriBuilder.build();
                 })
                 .retrieve()
                 .bodyToMono(OmdbSearchResponse.class)
                 .doOnNext(response -> log.debug("Received search response: {}", response))
-                .doOnError(error -> log.error("Error searching movies: {}", error.getMessage(), error));
+                .doOnError(error -> log.error("Error searching movies: {}", error.getMessage(), error)));
     }
     
-    /**
-     * Get movie details by title
-     */
-    @Cacheable(value = CacheConfig.MOVIE_BY_TITLE_CACHE, key = "#title + '_' + (#year != null ? #year : 'null') + '_' + (#plot != null ? #plot : 'full')")
-    public Mono<OmdbMovie> getMovieByTitle(String title, String year, String plot) {
-        log.debug("Getting movie by title: {}, year: {}, plot: {} (cache miss)", title, year, plot);
-        
-        return webClient.get()
+    private Mono<OmdbMovie> fetchByTitle(OmdbCacheKey key) {
+        String title = key.query();
+        String year = key.year();
+        String plot = key.variant();
+        return callUpstream(key, OmdbMovie.class, () -> webClient.get()
                 .uri(uriBuilder -> {
                     uriBuilder.scheme("https")
                             .host("www.omdbapi.com")
@@ -82,19 +284,16 @@ public class OmdbService {
                     return uriBuilder.build();
                 })
                 .retrieve()
-                .bodyToMono(OmdbMovie.class)
+                .bodyToMono(String.class)
+                .map(this::readMovie)
                 .doOnNext(movie -> log.debug("Received movie details: {}", movie.getTitle()))
-                .doOnError(error -> log.error("Error getting movie by title: {}", error.getMessage(), error));
+                .doOnError(error -> log.error("Error getting movie by title: {}", error.getMessage(), error)));
     }
     
-    /**
-     * Get movie details by IMDB ID
-     */
-    @Cacheable(value = CacheConfig.MOVIE_BY_IMDB_ID_CACHE, key = "#imdbId + '_' + (#plot != null ? #plot : 'full')")
-    public Mono<OmdbMovie> getMovieByImdbId(String imdbId, String plot) {
-        log.debug("Getting movie by IMDB ID: {}, plot: {} (cache miss)", imdbId, plot);
-        
-        return webClient.get()
+    private Mono<OmdbMovie> fetchByImdbId(OmdbCacheKey key) {
+        String imdbId = key.query();
+        String plot = key.variant();
+        return callUpstream(key, OmdbMovie.class, () -> webClient.get()
                 .uri(uriBuilder -> {
                     uriBuilder.scheme("https")
                             .host("www.omdbapi.com")
@@ -111,8 +310,25 @@ public class OmdbService {
                     return uriBuilder.build();
                 })
                 .retrieve()
-                .bodyToMono(OmdbMovie.class)
+                .bodyToMono(String.class)
+                .map(this::readMovie)
                 .doOnNext(movie -> log.debug("Received movie details: {}", movie.getTitle()))
-                .doOnError(error -> log.error("Error getting movie by IMDB ID: {}", error.getMessage(), error));
+                .doOnError(error -> log.error("Error getting movie by IMDB ID: {}", error.getMessage(), error)));
+    }
+    
+    /**
+     * Read a movie from the response body. With {@code omdb.api.keep-raw-json} the body is kept so JSON
+     * output can be served without serializing again, at the cost of holding it wherever the movie is cached in full.
+     */
+    private OmdbMovie readMovie(String body) {
+        try {
+            OmdbMovie movie = objectMapper.readValue(body, OmdbMovie.class);
+            if (omdbProperties.isKeepRawJson()) {
+                movie.setRawJson(body);
+            }
+            return movie;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid OMDB movie response: " + e.getOriginalMessage(), e);
+        }
     }
 }
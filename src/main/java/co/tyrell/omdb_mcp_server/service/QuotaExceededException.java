@@ -0,0 +1,11 @@
+package co.tyrell.omdb_mcp_server.service;
+
+/**
+ * Thrown when an upstream OMDB call is refused by the client-side rate limit or daily quota
+ */
+public class QuotaExceededException extends RuntimeException {
+
+    public QuotaExceededException(String message) {
+        super(message);
+    }
+}
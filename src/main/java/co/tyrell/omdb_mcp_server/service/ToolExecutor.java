@@ -0,0 +1,113 @@
+package co.tyrell.omdb_mcp_server.service;
+
+import co.tyrell.omdb_mcp_server.config.ToolExecutorProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs blocking MCP tool calls on virtual threads or a bounded platform pool, limiting how many
+ * run at once. Calls beyond the limit wait for a free slot up to the acquire timeout and are then rejected.
+ */
+@Slf4j
+public class ToolExecutor implements CacheStatsContributor, DisposableBean {
+    
+    static final String BUSY_MESSAGE = "Error: the server is busy, please retry the tool call later";
+    
+    private final ToolExecutorProperties properties;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final LongAdder waiting = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    
+    public ToolExecutor(ToolExecutorProperties properties) {
+        this.properties = properties;
+        this.permits = new Semaphore(properties.getMaxConcurrency(), true);
+        this.executor = properties.getMode() == ToolExecutorProperties.Mode.VIRTUAL
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("mcp-tool-", 0).factory())
+                : Executors.newFixedThreadPool(properties.getPlatformPoolSize(), Thread.ofPlatform().name("mcp-tool-", 0).daemon().factory());
+        log.info("Running blocking MCP tool calls on {} threads with at most {} concurrent calls",
+                properties.getMode(), properties.getMaxConcurrency());
+    }
+    
+    /**
+     * Run a blocking tool call on the executor and wait for its result
+     */
+    public String call(Supplier<String> tool) {
+        waiting.increment();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(properties.getAcquireTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return BUSY_MESSAGE;
+        } finally {
+            waiting.decrement();
+        }
+        
+        if (!acquired) {
+            rejected.increment();
+            log.warn("Rejected MCP tool call, {} calls already running", properties.getMaxConcurrency());
+            return BUSY_MESSAGE;
+        }
+        
+        CompletableFuture<String> result;
+        try {
+            result = CompletableFuture.supplyAsync(tool, executor)
+                    .whenComplete((value, error) -> {
+                        permits.release();
+                        completed.increment();
+                    });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "Error: tool call interrupted";
+        } catch (ExecutionException e) {
+            log.error("MCP tool call failed", e.getCause());
+            return "Error: " + e.getCause().getMessage();
+        }
+    }
+    
+    @Override
+    public String getStatsName() {
+        return "toolExecutor";
+    }
+    
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("mode", properties.getMode().name());
+        stats.put("maxConcurrency", properties.getMaxConcurrency());
+        stats.put("active", properties.getMaxConcurrency() - permits.availablePermits());
+        stats.put("waiting", waiting.sum());
+        if (executor instanceof ThreadPoolExecutor pool) {
+            stats.put("queued", pool.getQueue().size());
+        }
+        stats.put("completedCount", completed.sum());
+        stats.put("rejectedCount", rejected.sum());
+        return stats;
+    }
+    
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,257 @@
+package co.tyrell.omdb_mcp_server.service;
+
+import co.tyrell.omdb_mcp_server.cache.OmdbCacheKey;
+import co.tyrell.omdb_mcp_server.config.CacheConfig;
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbMovie;
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbSearchResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Renders OMDB results as tool output for both the MCP endpoint and the Spring AI tools.
+ * Rendered movies and single search pages are cached together with their serialized {@code tools/call}
+ * result, so a repeated lookup is answered without formatting or serializing again. Movies are keyed by
+ * IMDB ID, plot length and content, so every equal copy of a movie, such as one rebuilt from the compact
+ * cache form, shares its output while a changed movie is rendered afresh; search pages are keyed by the
+ * cache key and content of their response. Output of replaced values is never served and ages out after
+ * the write expiry. Searches combined from several pages or enriched with movie details are rendered on the spot.
+ */
+@Component
+public class ToolOutputRenderer implements CacheStatsContributor {
+
+    private static final String NO_LOCAL_RESULTS = "No movies found in the local index";
+
+    // Rough cost of an entry beyond its text
+    private static final int ENTRY_OVERHEAD = 160;
+
+    // Plot length of entries without a plot, such as search pages
+    private static final int NO_PLOT = -1;
+
+    /**
+     * Rendered text and the {@code tools/call} result carrying it, serialized up front when cached
+     */
+    public record Rendered(String text, Object result) {
+    }
+
+    /**
+     * IMDB ID of a movie or cache key of a search page, the plot length, which tells a movie's short and
+     * full plot apart, and the content hash, which tells a refreshed value from the one it replaced
+     */
+    private record Key(Object source, int plotLength, int version) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Key, Rendered> cache;
+
+    public ToolOutputRenderer(CacheConfig cacheConfig, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        CacheConfig.Render settings = cacheConfig.getRender();
+        this.cache = settings.isEnabled()
+                ? Caffeine.newBuilder()
+                        .maximumWeight(settings.getMaximumWeight().toBytes())
+                        .weigher(ToolOutputRenderer::weigh)
+                        .expireAfterWrite(settings.getExpireAfterWrite())
+                        .recordStats()
+                        .build()
+                : null;
+    }
+
+    /**
+     * A tool result with the given text, rendered on the spot
+     */
+    public static Rendered text(String text) {
+        return new Rendered(text, Map.of(
+                "content", List.of(Map.of(
+                        "type", "text",
+                        "text", text
+                ))
+        ));
+    }
+
+    /**
+     * Details of a movie, or why it was not found
+     */
+    public Rendered movie(OmdbMovie movie) {
+        if (!movie.isSuccessful()) {
+            return text("Movie not found: " + (movie.getError() != null ? movie.getError() : "Unknown error"));
+        }
+        return cached(movieKey(movie), () -> formatMovieDetails(movie));
+    }
+
+    /**
+     * Search results. With {@code enrichCount} set, the results carry the details loaded for the top
+     * hits and a summary of how many of them were requested. Only results with the cache key of their
+     * response and without details are cached.
+     *
+     * @param source cache key of the response, or null if it is not a single cached page
+     */
+    public Rendered search(OmdbCacheKey source, OmdbSearchResponse searchResponse, Map<String, OmdbMovie> details,
+                           Integer enrichCount) {
+        if (!searchResponse.isSuccessful()) {
+            return text("No movies found: " + (searchResponse.getError() != null ? searchResponse.getError() : "Unknown error"));
+        }
+        if (source != null && details.isEmpty() && enrichCount == null) {
+            return cached(new Key(source, NO_PLOT, searchResponse.hashCode()), () -> formatSearchResults(searchResponse, details));
+        }
+        return text(enrichCount != null
+                ? formatSearchResults(searchResponse, details) + "Details loaded for " + details.size() + " of " + enrichCount + " top results\n"
+                : formatSearchResults(searchResponse, details));
+    }
+
+    /**
+     * Matches from the local title index. These are not cached, as hits are rendered from the index directly.
+     */
+    public Rendered localResults(List<LocalTitleIndex.Hit> hits) {
+        return text(hits.isEmpty() ? NO_LOCAL_RESULTS : formatLocalResults(hits));
+    }
+
+    /**
+     * Movies of a batch lookup in the given order, assembled from the rendered movies
+     */
+    public Rendered batch(List<OmdbBatchService.MovieLookup> lookups) {
+        long found = lookups.stream().filter(OmdbBatchService.MovieLookup::isFound).count();
+        StringBuilder sb = new StringBuilder();
+        sb.append("Found ").append(found).append(" of ").append(lookups.size()).append(" movies:\n");
+
+        for (OmdbBatchService.MovieLookup lookup : lookups) {
+            sb.append("\n---\n\n");
+            sb.append(lookup(lookup));
+            sb.append("\n");
+        }
+
+        return text(sb.toString());
+    }
+
+    /**
+     * Text of one lookup of a batch
+     */
+    public String lookup(OmdbBatchService.MovieLookup lookup) {
+        if (lookup.isFound()) {
+            return movie(lookup.movie()).text();
+        }
+        String error = lookup.movie() != null ? lookup.movie().getError() : lookup.error();
+        return lookup.imdbId() + ": Movie not found: " + (error != null ? error : "Unknown error");
+    }
+
+    @Override
+    public String getStatsName() {
+        return "renderedOutput";
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", cache != null);
+        if (cache != null) {
+            CacheStats cacheStats = cache.stats();
+            stats.put("size", cache.estimatedSize());
+            stats.put("hitCount", cacheStats.hitCount());
+            stats.put("missCount", cacheStats.missCount());
+            stats.put("hitRate", cacheStats.hitRate());
+            stats.put("evictionCount", cacheStats.evictionCount());
+        }
+        return stats;
+    }
+
+    private static Key movieKey(OmdbMovie movie) {
+        return new Key(movie.getImdbId(), movie.getPlot() != null ? movie.getPlot().length() : NO_PLOT, movie.hashCode());
+    }
+
+    private Rendered cached(Key key, Supplier<String> formatter) {
+        if (cache == null) {
+            return text(formatter.get());
+        }
+        return cache.get(key, k -> serialize(formatter.get()));
+    }
+
+    private Rendered serialize(String text) {
+        try {
+            return new Rendered(text, new RawValue(objectMapper.writeValueAsString(text(text).result())));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize tool output", e);
+        }
+    }
+
+    private static int weigh(Key key, Rendered rendered) {
+        int weight = ENTRY_OVERHEAD + 2 * rendered.text().length();
+        if (rendered.result() instanceof RawValue raw) {
+            weight += 2 * raw.rawValue().toString().length();
+        }
+        return weight;
+    }
+
+    private static String formatMovieDetails(OmdbMovie movie) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("🎬 ").append(movie.getTitle()).append(" (").append(movie.getYear()).append(")\n");
+
+        if (movie.getImdbId() != null) sb.append("IMDB ID: ").append(movie.getImdbId()).append("\n");
+        if (movie.getRated() != null) sb.append("Rating: ").append(movie.getRated()).append("\n");
+        if (movie.getRuntime() != null) sb.append("Runtime: ").append(movie.getRuntime()).append("\n");
+        if (movie.getGenre() != null) sb.append("Genre: ").append(movie.getGenre()).append("\n");
+        if (movie.getDirector() != null) sb.append("Director: ").append(movie.getDirector()).append("\n");
+        if (movie.getActors() != null) sb.append("Cast: ").append(movie.getActors()).append("\n");
+        if (movie.getImdbRating() != null) sb.append("IMDB Rating: ").append(movie.getImdbRating()).append("/10\n");
+        if (movie.getMetascore() != null) sb.append("Metacritic Score: ").append(movie.getMetascore()).append("/100\n");
+
+        sb.append("\nPlot:\n").append(movie.getPlot() != null ? movie.getPlot() : "No plot available");
+
+        if (movie.getAwards() != null) {
+            sb.append("\n\nAwards: ").append(movie.getAwards());
+        }
+
+        return sb.toString();
+    }
+
+    private static String formatSearchResults(OmdbSearchResponse searchResponse, Map<String, OmdbMovie> details) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Search Results (").append(searchResponse.getTotalResults()).append(" total):\n\n");
+
+        if (searchResponse.getSearch() != null) {
+            for (int i = 0; i < searchResponse.getSearch().length; i++) {
+                OmdbSearchResponse.SearchResult movie = searchResponse.getSearch()[i];
+                sb.append(i + 1).append(". ");
+                sb.append(movie.getTitle()).append(" (").append(movie.getYear()).append(")\n");
+                sb.append("   Type: ").append(movie.getType()).append("\n");
+                sb.append("   IMDB ID: ").append(movie.getImdbId()).append("\n");
+                OmdbMovie detail = details.get(movie.getImdbId());
+                if (detail != null) {
+                    if (detail.getGenre() != null) sb.append("   Genre: ").append(detail.getGenre()).append("\n");
+                    if (detail.getDirector() != null) sb.append("   Director: ").append(detail.getDirector()).append("\n");
+                    if (detail.getRuntime() != null) sb.append("   Runtime: ").append(detail.getRuntime()).append("\n");
+                    if (detail.getImdbRating() != null) sb.append("   IMDB Rating: ").append(detail.getImdbRating()).append("/10\n");
+                    if (detail.getPlot() != null) sb.append("   Plot: ").append(detail.getPlot()).append("\n");
+                }
+                sb.append("\n");
+            }
+        }
+
+        return sb.toString();
+    }
+
+    private static String formatLocalResults(List<LocalTitleIndex.Hit> hits) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Local Index Results (").append(hits.size()).append(" matches):\n\n");
+
+        for (int i = 0; i < hits.size(); i++) {
+            LocalTitleIndex.Entry movie = hits.get(i).entry();
+            sb.append(i + 1).append(". ");
+            sb.append(movie.title()).append(" (").append(movie.year()).append(")\n");
+            sb.append("   Type: ").append(movie.type()).append("\n");
+            sb.append("   IMDB ID: ").append(movie.imdbId()).append("\n");
+            if (movie.director() != null) sb.append("   Director: ").append(movie.director()).append("\n");
+            sb.append("\n");
+        }
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,114 @@
+package co.tyrell.omdb_mcp_server.cache;
+
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbMovie;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactMovieTest {
+
+    @Test
+    void toMovie_WithRegularValues_ShouldRebuildAnEqualMovie() {
+        // Given
+        OmdbMovie movie = movie("tt0133093", "The Matrix");
+
+        // When
+        OmdbMovie rebuilt = CompactMovie.of(movie).toMovie();
+
+        // Then
+        assertThat(rebuilt).isEqualTo(movie).isNotSameAs(movie);
+    }
+
+    @Test
+    void toMovie_WithIrregularAndMissingValues_ShouldRebuildTheExactText() {
+        // Given
+        OmdbMovie movie = movie("tt0903747", "Breaking Bad");
+        movie.setYear("2008–2013");
+        movie.setRuntime("N/A");
+        movie.setMetascore(null);
+        movie.setImdbRating("09.5");
+        movie.setImdbVotes("2,134,567");
+        movie.setPlot("Un professeur de chimie atteint d'un cancer… 化学");
+        movie.setRatings(null);
+
+        // When
+        OmdbMovie rebuilt = CompactMovie.of(movie).toMovie();
+
+        // Then
+        assertThat(rebuilt).isEqualTo(movie);
+    }
+
+    @Test
+    void of_WithOmdbJson_ShouldLeaveItOutOfTheCompactForm() {
+        // Given
+        OmdbMovie movie = movie("tt0133093", "The Matrix");
+        int sizeWithoutJson = CompactMovie.of(movie).estimatedSize();
+        movie.setRawJson("{\"Title\":\"The Matrix\",\"imdbID\":\"tt0133093\",\"Response\":\"True\"}");
+
+        // When
+        CompactMovie compactMovie = CompactMovie.of(movie);
+
+        // Then
+        assertThat(compactMovie.toMovie().getRawJson()).isNull();
+        assertThat(compactMovie.estimatedSize()).isEqualTo(sizeWithoutJson);
+    }
+
+    @Test
+    void of_WithRepeatedValues_ShouldShareThemAcrossEntries() {
+        // Given
+        OmdbMovie first = movie("tt0133093", "The Matrix");
+        OmdbMovie second = movie("tt0234215", "The Matrix Reloaded");
+        second.setGenre(new String(first.getGenre().toCharArray()));
+
+        // When
+        OmdbMovie firstRebuilt = CompactMovie.of(first).toMovie();
+        OmdbMovie secondRebuilt = CompactMovie.of(second).toMovie();
+
+        // Then
+        assertThat(secondRebuilt.getGenre()).isSameAs(firstRebuilt.getGenre());
+        assertThat(secondRebuilt.getRatings()[0].getSource()).isSameAs(firstRebuilt.getRatings()[0].getSource());
+    }
+
+    @Test
+    void compactAndExpand_ShouldOnlyConvertMovies() {
+        // Given
+        OmdbMovie movie = movie("tt0133093", "The Matrix");
+
+        // When
+        Object compacted = CompactMovie.compact(movie);
+
+        // Then
+        assertThat(compacted).isInstanceOf(CompactMovie.class);
+        assertThat(CompactMovie.expand(compacted)).isEqualTo(movie);
+        assertThat(CompactMovie.compact("tt0133093")).isEqualTo("tt0133093");
+        assertThat(CompactMovie.expand("tt0133093")).isEqualTo("tt0133093");
+    }
+
+    static OmdbMovie movie(String imdbId, String title) {
+        OmdbMovie.Rating rating = new OmdbMovie.Rating();
+        rating.setSource("Internet Movie Database");
+        rating.setValue("8.7/10");
+
+        OmdbMovie movie = new OmdbMovie();
+        movie.setTitle(title);
+        movie.setYear("1999");
+        movie.setRated("R");
+        movie.setReleased("31 Mar 1999");
+        movie.setRuntime("136 min");
+        movie.setGenre("Action, Sci-Fi");
+        movie.setDirector("Lana Wachowski, Lilly Wachowski");
+        movie.setPlot("When a beautiful stranger leads computer hacker Neo to a forbidding underworld...");
+        movie.setLanguage("English");
+        movie.setCountry("United States, Australia");
+        movie.setAwards("N/A");
+        movie.setRatings(new OmdbMovie.Rating[] {rating});
+        movie.setMetascore("73");
+        movie.setImdbRating("8.7");
+        movie.setImdbVotes("2,134,567");
+        movie.setImdbId(imdbId);
+        movie.setType("movie");
+        movie.setBoxOffice("$172,076,928");
+        movie.setResponse("True");
+        return movie;
+    }
+}
@@ -0,0 +1,143 @@
+package co.tyrell.omdb_mcp_server.cache;
+
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbMovie;
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbSearchResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DiskCacheStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void put_ThenGet_ShouldRoundTripMovie() throws Exception {
+        try (DiskCacheStore store = new DiskCacheStore(tempDir.resolve("movies.log"), Duration.ofHours(1), 1024 * 1024)) {
+            // Given
+            OmdbMovie movie = createTestMovie();
+
+            // When
+            store.put("tt1375666_full", movie);
+
+            // Then
+            assertThat(store.get("tt1375666_full")).isEqualTo(movie);
+            assertThat(store.get("tt0000000_full")).isNull();
+        }
+    }
+
+    @Test
+    void put_ThenGet_ShouldKeepMovieJson() throws Exception {
+        try (DiskCacheStore store = new DiskCacheStore(tempDir.resolve("movies.log"), Duration.ofHours(1), 1024 * 1024)) {
+            // Given
+            OmdbMovie movie = createTestMovie();
+            movie.setRawJson("{\"Title\":\"Inception\",\"imdbID\":\"tt1375666\",\"Response\":\"True\"}");
+
+            // When
+            store.put("tt1375666_full", movie);
+
+            // Then
+            assertThat(store.get("tt1375666_full"))
+                    .isInstanceOfSatisfying(OmdbMovie.class, restored -> assertThat(restored.getRawJson()).isEqualTo(movie.getRawJson()));
+        }
+    }
+
+    @Test
+    void reopen_ShouldRestorePersistedEntries() throws Exception {
+        // Given
+        Path file = tempDir.resolve("search.log");
+        OmdbSearchResponse searchResponse = createTestSearchResponse();
+        try (DiskCacheStore store = new DiskCacheStore(file, Duration.ofHours(1), 1024 * 1024)) {
+            store.put("inception_null_null", searchResponse);
+            store.put("evicted_null_null", searchResponse);
+            store.evict("evicted_null_null");
+        }
+
+        // When
+        try (DiskCacheStore reopened = new DiskCacheStore(file, Duration.ofHours(1), 1024 * 1024)) {
+            // Then
+            assertThat(reopened.size()).isEqualTo(1);
+            assertThat(reopened.get("inception_null_null")).isEqualTo(searchResponse);
+            assertThat(reopened.get("evicted_null_null")).isNull();
+        }
+    }
+
+    @Test
+    void get_WithExpiredEntry_ShouldReturnNull() throws Exception {
+        try (DiskCacheStore store = new DiskCacheStore(tempDir.resolve("expired.log"), Duration.ZERO, 1024 * 1024)) {
+            // Given
+            store.put("tt1375666_full", createTestMovie());
+            Thread.sleep(5);
+
+            // When / Then
+            assertThat(store.get("tt1375666_full")).isNull();
+        }
+    }
+
+    @Test
+    void put_BeyondSizeBudget_ShouldCompactKeepingNewestEntries() throws Exception {
+        try (DiskCacheStore store = new DiskCacheStore(tempDir.resolve("compact.log"), Duration.ofHours(1), 4 * 1024)) {
+            // Given
+            OmdbMovie movie = createTestMovie();
+
+            // When
+            for (int i = 0; i < 100; i++) {
+                store.put("tt" + i + "_full", movie);
+            }
+
+            // Then
+            assertThat(store.sizeInBytes()).isLessThanOrEqualTo(4 * 1024);
+            assertThat(store.get("tt99_full")).isEqualTo(movie);
+            assertThat(store.get("tt0_full")).isNull();
+        }
+    }
+
+    @Test
+    void put_WithUnsupportedValue_ShouldBeIgnored() throws Exception {
+        try (DiskCacheStore store = new DiskCacheStore(tempDir.resolve("unsupported.log"), Duration.ofHours(1), 1024 * 1024)) {
+            // When
+            store.put("key", "not an OMDB response");
+
+            // Then
+            assertThat(store.size()).isZero();
+            assertThat(store.sizeInBytes()).isZero();
+        }
+    }
+
+    private OmdbMovie createTestMovie() {
+        OmdbMovie movie = new OmdbMovie();
+        movie.setTitle("Inception");
+        movie.setYear("2010");
+        movie.setImdbId("tt1375666");
+        movie.setType("movie");
+        movie.setDirector("Christopher Nolan");
+        movie.setActors("Leonardo DiCaprio, Marion Cotillard");
+        movie.setPlot("A thief who steals corporate secrets through dream-sharing technology...");
+        movie.setImdbRating("8.8");
+        movie.setResponse("True");
+
+        OmdbMovie.Rating rating = new OmdbMovie.Rating();
+        rating.setSource("Internet Movie Database");
+        rating.setValue("8.8/10");
+        movie.setRatings(new OmdbMovie.Rating[] { rating });
+        return movie;
+    }
+
+    private OmdbSearchResponse createTestSearchResponse() {
+        OmdbSearchResponse.SearchResult result = new OmdbSearchResponse.SearchResult();
+        result.setTitle("Inception");
+        result.setYear("2010");
+        result.setImdbId("tt1375666");
+        result.setType("movie");
+
+        OmdbSearchResponse searchResponse = new OmdbSearchResponse();
+        searchResponse.setSearch(new OmdbSearchResponse.SearchResult[] { result });
+        searchResponse.setTotalResults("1");
+        searchResponse.setResponse("True");
+        return searchResponse;
+    }
+}
@@ -0,0 +1,123 @@
+package co.tyrell.omdb_mcp_server.cache;
+
+import co.tyrell.omdb_mcp_server.service.OmdbService;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OmdbCacheKeyTest {
+
+    @Test
+    void search_WithCaseAndWhitespaceVariants_ShouldProduceEqualKeys() {
+        // When
+        OmdbCacheKey plain = OmdbCacheKey.search("The Matrix", null, null);
+        OmdbCacheKey padded = OmdbCacheKey.search("  the   matrix ", "", " ");
+        OmdbCacheKey upper = OmdbCacheKey.search("THE\tMATRIX", null, null);
+
+        // Then
+        assertThat(padded).isEqualTo(plain).hasSameHashCodeAs(plain);
+        assertThat(upper).isEqualTo(plain);
+        assertThat(plain.query()).isEqualTo("the matrix");
+        assertThat(padded.year()).isNull();
+    }
+
+    @Test
+    void search_WithCompatibilityCharacters_ShouldNormalizeToNfkc() {
+        // When
+        OmdbCacheKey fullWidth = OmdbCacheKey.search("ＡＭＥＬＩＥ", null, null);
+
+        // Then
+        assertThat(fullWidth).isEqualTo(OmdbCacheKey.search("amelie", null, null));
+    }
+
+    @Test
+    void title_WithoutPlot_ShouldDefaultToFullPlot() {
+        // Then
+        assertThat(OmdbCacheKey.title("Inception", "2010", null))
+                .isEqualTo(OmdbCacheKey.title("inception", "2010", "FULL"));
+        assertThat(OmdbCacheKey.title("Inception", "2010", "short"))
+                .isNotEqualTo(OmdbCacheKey.title("Inception", "2010", null));
+    }
+
+    @Test
+    void toString_WithSeparatorsInComponents_ShouldNotCollide() {
+        // When
+        OmdbCacheKey first = OmdbCacheKey.search("alien|1979", null, null);
+        OmdbCacheKey second = OmdbCacheKey.search("alien", "1979", null);
+
+        // Then
+        assertThat(first).isNotEqualTo(second);
+        assertThat(first.toString()).isNotEqualTo(second.toString());
+        assertThat(OmdbCacheKey.search("null_null", null, null)).isNotEqualTo(OmdbCacheKey.search(null, null, null));
+    }
+
+    @Test
+    void search_WithPage_ShouldKeyEachPageSeparately() {
+        // When
+        OmdbCacheKey firstPage = OmdbCacheKey.search("Star Wars", null, null, 1);
+        OmdbCacheKey secondPage = OmdbCacheKey.search("Star Wars", null, null, 2);
+
+        // Then
+        assertThat(firstPage).isEqualTo(OmdbCacheKey.search("star wars", null, null));
+        assertThat(firstPage.toString()).isEqualTo("SEARCH|star wars||");
+        assertThat(secondPage).isNotEqualTo(firstPage);
+        assertThat(secondPage.page()).isEqualTo(2);
+        assertThat(secondPage.toString()).isEqualTo("SEARCH|star wars|||2");
+    }
+
+    @Test
+    void keyGenerator_ForServiceMethods_ShouldBuildMatchingKeys() throws Exception {
+        // Given
+        OmdbCacheKeyGenerator keyGenerator = new OmdbCacheKeyGenerator();
+        Method searchMovies = OmdbService.class.getMethod("searchMovies", String.class, String.class, String.class);
+        Method searchMoviesPage = OmdbService.class.getMethod("searchMovies", String.class, String.class, String.class, Integer.class);
+        Method getMovieByImdbId = OmdbService.class.getMethod("getMovieByImdbId", String.class, String.class);
+
+        // Then
+        assertThat(keyGenerator.generate(null, searchMovies, "The Matrix ", "1999", null))
+                .isEqualTo(OmdbCacheKey.search("the matrix", "1999", null));
+        assertThat(keyGenerator.generate(null, searchMoviesPage, "The Matrix", null, null, 3))
+                .isEqualTo(OmdbCacheKey.search("the matrix", null, null, 3));
+        assertThat(keyGenerator.generate(null, getMovieByImdbId, "tt0133093", null))
+                .isEqualTo(OmdbCacheKey.imdbId("TT0133093", "full"));
+    }
+
+    @Test
+    void parse_OfToString_ShouldRoundTripIncludingEscapesAndPage() {
+        // Given
+        OmdbCacheKey escaped = OmdbCacheKey.title("Either|Or \\ Both", "2001", "short");
+        OmdbCacheKey secondPage = OmdbCacheKey.search("Star Wars", null, "movie", 2);
+        OmdbCacheKey byId = OmdbCacheKey.imdbId("tt0133093", null);
+
+        // Then
+        assertThat(OmdbCacheKey.parse(escaped.toString())).isEqualTo(escaped);
+        assertThat(OmdbCacheKey.parse(secondPage.toString())).isEqualTo(secondPage);
+        assertThat(OmdbCacheKey.parse(byId.toString())).isEqualTo(byId);
+        assertThatThrownBy(() -> OmdbCacheKey.parse("LOOKUP|the matrix||"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OmdbCacheKey.parse("the matrix"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void keyGenerator_WithRecorder_ShouldCountGeneratedKeys() throws Exception {
+        // Given
+        HotKeyRecorder recorder = new HotKeyRecorder(10);
+        OmdbCacheKeyGenerator keyGenerator = new OmdbCacheKeyGenerator(recorder);
+        Method getMovieByImdbId = OmdbService.class.getMethod("getMovieByImdbId", String.class, String.class);
+        Method getMovieByTitle = OmdbService.class.getMethod("getMovieByTitle", String.class, String.class, String.class);
+
+        // When
+        keyGenerator.generate(null, getMovieByTitle, "Alien", null, null);
+        keyGenerator.generate(null, getMovieByImdbId, "tt0133093", null);
+        keyGenerator.generate(null, getMovieByImdbId, "TT0133093", "full");
+
+        // Then
+        assertThat(recorder.topKeys(10)).containsExactly(
+                OmdbCacheKey.imdbId("tt0133093", null),
+                OmdbCacheKey.title("alien", null, null));
+    }
+}
@@ -0,0 +1,87 @@
+package co.tyrell.omdb_mcp_server.cache;
+
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbMovie;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OmdbCacheLoaderTest {
+
+    private static final OmdbCacheKey KEY = OmdbCacheKey.imdbId("tt1375666", null);
+    private static final Executor DIRECT = Runnable::run;
+
+    @Test
+    void asyncLoad_ShouldLeaveInitialLoadsToCacheableMethods() {
+        OmdbCacheLoader loader = new OmdbCacheLoader(key -> Mono.error(new AssertionError("should not fetch")));
+
+        assertThat(loader.asyncLoad(KEY, DIRECT).join()).isNull();
+    }
+
+    @Test
+    void asyncReload_WithSuccessfulResponse_ShouldReplaceValue() {
+        OmdbMovie refreshed = movie("True", "Inception (refreshed)");
+        OmdbCacheLoader loader = new OmdbCacheLoader(key -> Mono.just(refreshed));
+
+        assertThat(loader.asyncReload(KEY, movie("True", "Inception"), DIRECT).join()).isSameAs(refreshed);
+    }
+
+    @Test
+    void asyncReload_WithUnsuccessfulResponse_ShouldKeepSuccessfulValue() {
+        OmdbMovie current = movie("True", "Inception");
+        OmdbCacheLoader loader = new OmdbCacheLoader(key -> Mono.just(movie("False", null)));
+
+        assertThat(loader.asyncReload(KEY, current, DIRECT).join()).isSameAs(current);
+    }
+
+    @Test
+    void asyncReload_WithStoreValueConversion_ShouldStoreCompactMovie() {
+        OmdbCacheLoader loader = new OmdbCacheLoader(key -> Mono.just(movie("True", "Inception (refreshed)")), CompactMovie::compact);
+
+        Object reloaded = loader.asyncReload(KEY, CompactMovie.of(movie("True", "Inception")), DIRECT).join();
+
+        assertThat(reloaded).isInstanceOf(CompactMovie.class);
+        assertThat(((CompactMovie) reloaded).toMovie().getTitle()).isEqualTo("Inception (refreshed)");
+    }
+
+    @Test
+    void asyncReload_WithReplacedValue_ShouldHandFullValueToRefreshListener() {
+        OmdbMovie refreshed = movie("True", "Inception (refreshed)");
+        Map<Object, Object> written = new HashMap<>();
+        OmdbCacheLoader loader = new OmdbCacheLoader(key -> Mono.just(refreshed), CompactMovie::compact, written::put);
+
+        loader.asyncReload(KEY, CompactMovie.of(movie("True", "Inception")), DIRECT).join();
+
+        assertThat(written).containsExactly(Map.entry(KEY, refreshed));
+    }
+
+    @Test
+    void asyncReload_WithKeptValue_ShouldNotCallRefreshListener() {
+        Map<Object, Object> written = new HashMap<>();
+        OmdbCacheLoader loader = new OmdbCacheLoader(key -> Mono.just(movie("False", null)), UnaryOperator.identity(), written::put);
+
+        loader.asyncReload(KEY, movie("True", "Inception"), DIRECT).join();
+
+        assertThat(written).isEmpty();
+    }
+
+    @Test
+    void asyncReload_WithUpstreamError_ShouldFailSoCaffeineKeepsStaleValue() {
+        OmdbCacheLoader loader = new OmdbCacheLoader(key -> Mono.error(new RuntimeException("OMDB unavailable")));
+
+        assertThat(loader.asyncReload(KEY, movie("True", "Inception"), DIRECT)).isCompletedExceptionally();
+    }
+
+    private OmdbMovie movie(String response, String title) {
+        OmdbMovie movie = new OmdbMovie();
+        movie.setTitle(title);
+        movie.setImdbId("tt1375666");
+        movie.setResponse(response);
+        return movie;
+    }
+}
@@ -0,0 +1,60 @@
+package co.tyrell.omdb_mcp_server.cache;
+
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbMovie;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OmdbCaffeineCacheTest {
+
+    private static final OmdbCacheKey KEY = OmdbCacheKey.imdbId("tt0133093", null);
+
+    private final AsyncCache<Object, Object> nativeCache = Caffeine.newBuilder().buildAsync();
+
+    @Test
+    void put_WithCompactValues_ShouldStoreCompactMovieAndReturnMovie() {
+        // Given
+        OmdbCaffeineCache cache = new OmdbCaffeineCache("movies", nativeCache, false, true);
+        OmdbMovie movie = CompactMovieTest.movie("tt0133093", "The Matrix");
+
+        // When
+        cache.put(KEY, movie);
+
+        // Then
+        assertThat(nativeCache.synchronous().getIfPresent(KEY)).isInstanceOf(CompactMovie.class);
+        assertThat(cache.retrieve(KEY).join()).isEqualTo(movie);
+        assertThat(cache.get(KEY, OmdbMovie.class)).isEqualTo(movie);
+    }
+
+    @Test
+    void retrieve_WithLoaderAndCompactValues_ShouldStoreCompactMovie() {
+        // Given
+        OmdbCaffeineCache cache = new OmdbCaffeineCache("movies", nativeCache, false, true);
+        OmdbMovie movie = CompactMovieTest.movie("tt0133093", "The Matrix");
+
+        // When
+        OmdbMovie loaded = cache.retrieve(KEY, () -> CompletableFuture.completedFuture(movie)).join();
+
+        // Then
+        assertThat(loaded).isEqualTo(movie);
+        assertThat(nativeCache.synchronous().getIfPresent(KEY)).isInstanceOf(CompactMovie.class);
+    }
+
+    @Test
+    void put_WithoutCompactValues_ShouldStoreMovieAsIs() {
+        // Given
+        OmdbCaffeineCache cache = new OmdbCaffeineCache("movies", nativeCache, false, false);
+        OmdbMovie movie = CompactMovieTest.movie("tt0133093", "The Matrix");
+
+        // When
+        cache.put(KEY, movie);
+
+        // Then
+        assertThat(nativeCache.synchronous().getIfPresent(KEY)).isSameAs(movie);
+        assertThat(cache.retrieve(KEY).join()).isSameAs(movie);
+    }
+}
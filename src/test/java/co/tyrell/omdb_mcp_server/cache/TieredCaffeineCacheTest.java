@@ -0,0 +1,79 @@
+package co.tyrell.omdb_mcp_server.cache;
+
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbMovie;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TieredCaffeineCacheTest {
+
+    private static final OmdbCacheKey KEY = OmdbCacheKey.imdbId("tt0133093", null);
+
+    @TempDir
+    Path tempDir;
+
+    private final AsyncCache<Object, Object> nativeCache = Caffeine.newBuilder().buildAsync();
+    private final List<Runnable> reads = new ArrayList<>();
+    private final List<Runnable> writes = new ArrayList<>();
+    private DiskCacheStore diskStore;
+    private TieredCaffeineCache cache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        diskStore = new DiskCacheStore(tempDir.resolve("movies.log"), Duration.ofHours(1), 1024 * 1024);
+        Executor diskReader = reads::add;
+        Executor diskWriter = writes::add;
+        cache = new TieredCaffeineCache("movies", nativeCache, false, true, (key, value) -> { }, diskStore, diskReader, diskWriter);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        diskStore.close();
+    }
+
+    @Test
+    void put_ShouldQueueTheDiskWriteInsteadOfWritingOnTheCallingThread() {
+        // When
+        cache.put(KEY, CompactMovieTest.movie("tt0133093", "The Matrix"));
+
+        // Then
+        assertThat(diskStore.contains(KEY)).isFalse();
+        writes.forEach(Runnable::run);
+        assertThat(diskStore.contains(KEY)).isTrue();
+    }
+
+    @Test
+    void retrieve_WithMemoryMiss_ShouldReadFromDiskOnTheReaderAndPromote() {
+        // Given
+        OmdbMovie movie = CompactMovieTest.movie("tt0133093", "The Matrix");
+        diskStore.put(KEY, movie);
+
+        // When
+        CompletableFuture<?> result = cache.retrieve(KEY);
+
+        // Then
+        assertThat(result).isNotDone();
+        reads.forEach(Runnable::run);
+        assertThat(result.join()).isEqualTo(movie);
+        assertThat(nativeCache.synchronous().getIfPresent(KEY)).isInstanceOf(CompactMovie.class);
+    }
+
+    @Test
+    void retrieve_WithKeyNotOnDisk_ShouldMissWithoutReading() {
+        // Then
+        assertThat(cache.retrieve(KEY)).isNull();
+        assertThat(reads).isEmpty();
+    }
+}
@@ -0,0 +1,135 @@
+package co.tyrell.omdb_mcp_server.controller;
+
+import co.tyrell.omdb_mcp_server.config.McpProperties;
+import co.tyrell.omdb_mcp_server.model.mcp.McpNotification;
+import co.tyrell.omdb_mcp_server.model.mcp.McpRequest;
+import co.tyrell.omdb_mcp_server.model.mcp.McpResponse;
+import co.tyrell.omdb_mcp_server.service.McpService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(McpController.class)
+@Import(McpProperties.class)
+class McpControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private McpService mcpService;
+
+    @BeforeEach
+    void setUp() {
+        // Answers pings with a pong, slowest first, and sends nothing for notifications
+        when(mcpService.handleRequest(any(McpRequest.class))).thenAnswer(invocation -> {
+            McpRequest request = invocation.getArgument(0);
+            if (request.getMethod().startsWith("notifications/")) {
+                return Mono.empty();
+            }
+            McpResponse response = new McpResponse();
+            response.setId(request.getId());
+            response.setResult(Map.of("pong", true));
+            return Mono.just(response).delayElement(Duration.ofMillis("1".equals(request.getId()) ? 50 : 0));
+        });
+    }
+
+    @Test
+    void handleMcpRequest_WithSingleRequest_ShouldReturnSingleResponse() {
+        webTestClient.post().uri("/mcp")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"jsonrpc\": \"2.0\", \"id\": \"7\", \"method\": \"ping\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo("7")
+                .jsonPath("$.result.pong").isEqualTo(true);
+    }
+
+    @Test
+    void handleMcpRequest_WithBatch_ShouldAnswerInRequestOrderWithoutNotifications() {
+        webTestClient.post().uri("/mcp")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        [
+                          {"jsonrpc": "2.0", "id": "1", "method": "ping"},
+                          {"jsonrpc": "2.0", "method": "notifications/initialized"},
+                          {"jsonrpc": "2.0", "id": "2", "method": "ping"},
+                          42
+                        ]
+                        """)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(3)
+                .jsonPath("$[0].id").isEqualTo("1")
+                .jsonPath("$[1].id").isEqualTo("2")
+                .jsonPath("$[2].error.code").isEqualTo(-32600);
+    }
+
+    @Test
+    void handleMcpRequest_WithEmptyBatch_ShouldReturnInvalidRequest() {
+        webTestClient.post().uri("/mcp")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[]")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.error.code").isEqualTo(-32600);
+    }
+
+    @Test
+    void handleMcpRequest_WithOnlyNotifications_ShouldReturnAcceptedWithoutBody() {
+        webTestClient.post().uri("/mcp")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[{\"jsonrpc\": \"2.0\", \"method\": \"notifications/initialized\"}]")
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void streamMcpRequest_AsNdjson_ShouldSendNotificationsBeforeTheResponse() {
+        // Given
+        McpResponse response = new McpResponse();
+        response.setId("4");
+        response.setResult(Map.of("content", List.of()));
+        when(mcpService.streamRequest(any(McpRequest.class))).thenReturn(Flux.just(
+                McpNotification.progress("batch-1", 1, 1),
+                McpNotification.partialResult("4", "The Matrix (1999)"),
+                response));
+
+        // When
+        List<String> lines = webTestClient.post().uri("/mcp/stream")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue("{\"jsonrpc\": \"2.0\", \"id\": \"4\", \"method\": \"tools/call\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // Then
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).contains("notifications/progress");
+        assertThat(lines.get(1)).contains(McpNotification.PARTIAL_RESULT, "The Matrix (1999)");
+        assertThat(lines.get(2)).contains("\"id\":\"4\"", "\"result\"");
+    }
+}
@@ -0,0 +1,158 @@
+package co.tyrell.omdb_mcp_server.service;
+
+import co.tyrell.omdb_mcp_server.cache.HotKeyRecorder;
+import co.tyrell.omdb_mcp_server.cache.OmdbCacheKey;
+import co.tyrell.omdb_mcp_server.config.CacheConfig;
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbMovie;
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbSearchResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmupServiceTest {
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private OmdbService omdbService;
+
+    private CacheConfig cacheConfig;
+    private HotKeyRecorder hotKeyRecorder;
+    private CacheWarmupService warmupService;
+
+    @BeforeEach
+    void setUp() {
+        cacheConfig = new CacheConfig();
+        cacheConfig.getWarmup().setEnabled(true);
+        cacheConfig.getWarmup().setHotKeysFile(directory.resolve("hot-keys.txt").toString());
+        cacheConfig.getWarmup().setAccessLogFile(directory.resolve("access-keys.txt").toString());
+        hotKeyRecorder = new HotKeyRecorder(100);
+        warmupService = new CacheWarmupService(cacheConfig, omdbService, hotKeyRecorder);
+    }
+
+    @Test
+    void warmUp_WithHotAndRecordedKeys_ShouldLoadEachKeyOnceThroughTheService() throws Exception {
+        // Given
+        Files.write(directory.resolve("hot-keys.txt"), List.of(
+                "# hot keys",
+                "IMDB_ID|tt0133093||full",
+                "SEARCH|star wars||movie|2",
+                "not a key"));
+        Files.write(directory.resolve("access-keys.txt"), List.of(
+                "IMDB_ID|tt0133093||full",
+                "TITLE|no such movie||full"));
+        when(omdbService.getMovieByImdbId("tt0133093", "full")).thenReturn(Mono.just(movie("True")));
+        when(omdbService.searchMovies("star wars", null, "movie", 2)).thenReturn(Mono.just(searchResponse()));
+        when(omdbService.getMovieByTitle("no such movie", null, "full")).thenReturn(Mono.just(movie("False")));
+
+        // When
+        CacheWarmupService.WarmupResult result = warmupService.warmUp().block();
+
+        // Then
+        assertThat(result.total()).isEqualTo(3);
+        assertThat(result.loaded()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(warmupService.isReady()).isTrue();
+        verify(omdbService, times(1)).getMovieByImdbId("tt0133093", "full");
+    }
+
+    @Test
+    void warmUp_WithUnreadableKeyFile_ShouldFailAndReportReady() throws Exception {
+        // Given
+        Files.write(directory.resolve("hot-keys.txt"), new byte[] { (byte) 0xC3, (byte) 0x28 });
+
+        // When
+        assertThatThrownBy(() -> warmupService.warmUp().block()).hasCauseInstanceOf(IOException.class);
+
+        // Then
+        assertThat(warmupService.isReady()).isTrue();
+    }
+
+    @Test
+    void isReady_BeforeWarmUpStarts_ShouldOnlyBeTrueWhenDisabled() {
+        // Then
+        assertThat(warmupService.isReady()).isFalse();
+
+        // When
+        cacheConfig.getWarmup().setEnabled(false);
+
+        // Then
+        assertThat(warmupService.isReady()).isTrue();
+    }
+
+    @Test
+    void destroy_WithRecordedAccess_ShouldSaveMostRequestedKeysForNextStart() throws Exception {
+        // Given
+        cacheConfig.getWarmup().setMaxKeys(1);
+        OmdbCacheKey popular = OmdbCacheKey.imdbId("tt0133093", null);
+        hotKeyRecorder.record(OmdbCacheKey.title("alien", null, null));
+        hotKeyRecorder.record(popular);
+        hotKeyRecorder.record(popular);
+
+        // When
+        warmupService.destroy();
+
+        // Then
+        assertThat(HotKeyRecorder.load(directory.resolve("access-keys.txt"))).containsExactly(popular);
+    }
+
+    @Test
+    void warmUp_WithRecordedAccess_ShouldNotRecordItsOwnLookups() throws Exception {
+        // Given
+        OmdbCacheKey key = OmdbCacheKey.imdbId("tt0133093", "full");
+        Files.write(directory.resolve("hot-keys.txt"), List.of(key.toString()));
+        when(omdbService.getMovieByImdbId("tt0133093", "full")).thenAnswer(invocation -> {
+            hotKeyRecorder.record(key);
+            return Mono.just(movie("True"));
+        });
+
+        // When
+        warmupService.warmUp().block();
+
+        // Then
+        assertThat(hotKeyRecorder.size()).isZero();
+    }
+
+    @Test
+    void destroy_WithWarmupDisabled_ShouldNotSaveKeys() {
+        // Given
+        cacheConfig.getWarmup().setEnabled(false);
+        hotKeyRecorder.record(OmdbCacheKey.imdbId("tt0133093", null));
+
+        // When
+        warmupService.destroy();
+
+        // Then
+        assertThat(directory.resolve("access-keys.txt")).doesNotExist();
+    }
+
+    private static OmdbMovie movie(String response) {
+        OmdbMovie movie = new OmdbMovie();
+        movie.setImdbId("tt0133093");
+        movie.setResponse(response);
+        return movie;
+    }
+
+    private static OmdbSearchResponse searchResponse() {
+        OmdbSearchResponse response = new OmdbSearchResponse();
+        response.setResponse("True");
+        return response;
+    }
+}
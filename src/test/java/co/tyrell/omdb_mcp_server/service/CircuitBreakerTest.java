@@ -0,0 +1,93 @@
+package co.tyrell.omdb_mcp_server.service;
+
+import co.tyrell.omdb_mcp_server.config.OmdbResilienceProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        OmdbResilienceProperties.CircuitBreaker properties = new OmdbResilienceProperties.CircuitBreaker();
+        properties.setWindowSize(4);
+        properties.setMinimumCalls(4);
+        properties.setFailureRateThreshold(0.5);
+        properties.setOpenDuration(Duration.ofSeconds(10));
+        properties.setHalfOpenCalls(1);
+        circuitBreaker = new CircuitBreaker(properties, now::get);
+    }
+
+    @Test
+    void onFailure_AtFailureRateThreshold_ShouldOpenAndRefuseCalls() {
+        // When
+        call(true);
+        call(false);
+        call(true);
+        call(false);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void onFailure_BelowMinimumCalls_ShouldStayClosed() {
+        // When
+        call(true);
+        call(true);
+        call(true);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void tryAcquire_AfterOpenDuration_ShouldProbeAndCloseOnSuccess() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            call(true);
+        }
+
+        // When
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // Then: a single probe is let through, further calls wait for its outcome
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+        circuitBreaker.onSuccess();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void onFailure_WhileHalfOpen_ShouldReopen() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            call(true);
+        }
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // When
+        call(true);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void call(boolean failure) {
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        if (failure) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package co.tyrell.omdb_mcp_server.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InFlightRequestRegistryTest {
+
+    private InFlightRequestRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new InFlightRequestRegistry();
+    }
+
+    @Test
+    void execute_ConcurrentCallsForSameKey_ShouldShareUpstreamCall() {
+        // Given
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Sinks.One<String> upstream = Sinks.one();
+
+        // When
+        CompletableFuture<String> first = registry.execute("key", () -> {
+            upstreamCalls.incrementAndGet();
+            return upstream.asMono();
+        }).toFuture();
+        CompletableFuture<String> second = registry.execute("key", () -> {
+            upstreamCalls.incrementAndGet();
+            return upstream.asMono();
+        }).toFuture();
+        upstream.tryEmitValue("response");
+
+        // Then
+        assertThat(first.join()).isEqualTo("response");
+        assertThat(second.join()).isEqualTo("response");
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(registry.getStats())
+                .containsEntry("upstreamCount", 1L)
+                .containsEntry("coalescedCount", 1L)
+                .containsEntry("inFlight", 0);
+    }
+
+    @Test
+    void execute_AfterCompletion_ShouldIssueNewUpstreamCall() {
+        // Given
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        // When
+        registry.execute("key", () -> Mono.fromCallable(upstreamCalls::incrementAndGet)).block();
+        registry.execute("key", () -> Mono.fromCallable(upstreamCalls::incrementAndGet)).block();
+
+        // Then
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(registry.getStats()).containsEntry("coalescedCount", 0L);
+    }
+
+    @Test
+    void execute_DifferentKeys_ShouldNotCoalesce() {
+        // Given
+        Sinks.One<String> first = Sinks.one();
+        Sinks.One<String> second = Sinks.one();
+
+        // When
+        CompletableFuture<String> firstResult = registry.execute("first", first::asMono).toFuture();
+        CompletableFuture<String> secondResult = registry.execute("second", second::asMono).toFuture();
+        first.tryEmitValue("one");
+        second.tryEmitValue("two");
+
+        // Then
+        assertThat(firstResult.join()).isEqualTo("one");
+        assertThat(secondResult.join()).isEqualTo("two");
+        assertThat(registry.getStats()).containsEntry("upstreamCount", 2L);
+    }
+
+    @Test
+    void execute_WithUpstreamError_ShouldPropagateToAllCallers() {
+        // Given
+        Sinks.One<String> upstream = Sinks.one();
+
+        // When
+        CompletableFuture<String> first = registry.execute("key", upstream::asMono).toFuture();
+        CompletableFuture<String> second = registry.execute("key", upstream::asMono).toFuture();
+        upstream.tryEmitError(new RuntimeException("OMDB unavailable"));
+
+        // Then
+        assertThat(first).isCompletedExceptionally();
+        assertThat(second).isCompletedExceptionally();
+        assertThat(registry.getInFlightCount()).isZero();
+    }
+}
@@ -0,0 +1,138 @@
+package co.tyrell.omdb_mcp_server.service;
+
+import co.tyrell.omdb_mcp_server.cache.OmdbCacheKey;
+import co.tyrell.omdb_mcp_server.cache.OmdbCaffeineCacheManager;
+import co.tyrell.omdb_mcp_server.config.CacheConfig;
+import co.tyrell.omdb_mcp_server.config.LocalIndexProperties;
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbMovie;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalTitleIndexTest {
+
+    private LocalIndexProperties properties;
+    private LocalTitleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LocalIndexProperties();
+        index = new LocalTitleIndex(properties, new ObjectMapper());
+        index.add(new LocalTitleIndex.Entry("tt0133093", "The Matrix", "1999", "movie", "Lana Wachowski, Lilly Wachowski", "Keanu Reeves"));
+        index.add(new LocalTitleIndex.Entry("tt0234215", "The Matrix Reloaded", "2003", "movie", null, null));
+        index.add(new LocalTitleIndex.Entry("tt0068646", "The Godfather", "1972", "movie", "Francis Ford Coppola", "Marlon Brando, Al Pacino"));
+        index.add(new LocalTitleIndex.Entry("tt0211915", "Amélie", "2001", "movie", null, null));
+    }
+
+    @Test
+    void search_WithExactTitle_ShouldRankExactMatchFirst() {
+        // When
+        List<LocalTitleIndex.Hit> hits = index.search("the matrix", null, null, 10);
+
+        // Then
+        assertThat(hits).extracting(hit -> hit.entry().imdbId()).containsExactly("tt0133093", "tt0234215");
+    }
+
+    @Test
+    void search_WithPrefixTypoOrAccentFreeQuery_ShouldMatch() {
+        // Then
+        assertThat(index.search("godf", null, null, 10)).extracting(hit -> hit.entry().imdbId()).containsExactly("tt0068646");
+        assertThat(index.search("godfathr", null, null, 10)).extracting(hit -> hit.entry().imdbId()).containsExactly("tt0068646");
+        assertThat(index.search("amelie", null, null, 10)).extracting(hit -> hit.entry().imdbId()).containsExactly("tt0211915");
+    }
+
+    @Test
+    void search_WithPersonOrFilters_ShouldMatchPeopleAndApplyFilters() {
+        // Then
+        assertThat(index.search("pacino", null, null, 10)).extracting(hit -> hit.entry().imdbId()).containsExactly("tt0068646");
+        assertThat(index.search("matrix", "2003", null, 10)).extracting(hit -> hit.entry().imdbId()).containsExactly("tt0234215");
+        assertThat(index.search("matrix", null, "series", 10)).isEmpty();
+        assertThat(index.search("matrix godfather", null, null, 10)).isEmpty();
+    }
+
+    @Test
+    void index_WithMovieDetails_ShouldMergeIntoSearchEntry() {
+        // Given
+        OmdbMovie movie = new OmdbMovie();
+        movie.setImdbId("tt0234215");
+        movie.setTitle("The Matrix Reloaded");
+        movie.setDirector("Lana Wachowski, Lilly Wachowski");
+        movie.setResponse("True");
+
+        // When
+        index.index(movie);
+
+        // Then
+        LocalTitleIndex.Entry entry = index.search("reloaded", null, null, 1).get(0).entry();
+        assertThat(entry.director()).isEqualTo("Lana Wachowski, Lilly Wachowski");
+        assertThat(entry.year()).isEqualTo("2003");
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void add_BeyondMaxEntries_ShouldEvictOldestEntry() {
+        // Given
+        properties.setMaxEntries(4);
+
+        // When
+        index.add(new LocalTitleIndex.Entry("tt1375666", "Inception", "2010", "movie", null, null));
+
+        // Then
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.search("matrix", null, null, 10)).extracting(hit -> hit.entry().imdbId()).containsExactly("tt0234215");
+        assertThat(index.getStats()).containsEntry("evictionCount", 1L);
+    }
+
+    @Test
+    void search_WithTypoChangingWordLength_ShouldMatchOnlyLiveWords() {
+        // Given
+        properties.setMaxEntries(4);
+        index.add(new LocalTitleIndex.Entry("tt1375666", "Inception", "2010", "movie", null, null));
+
+        // Then
+        assertThat(index.search("godfaather", null, null, 10)).extracting(hit -> hit.entry().imdbId()).containsExactly("tt0068646");
+        assertThat(index.search("incepton", null, null, 10)).extracting(hit -> hit.entry().imdbId()).containsExactly("tt1375666");
+        assertThat(index.search("matrx", null, null, 10)).extracting(hit -> hit.entry().imdbId()).containsExactly("tt0234215");
+    }
+
+    @Test
+    void cacheWrite_OfSuccessfulMovie_ShouldIndexIt() {
+        // Given
+        OmdbCaffeineCacheManager cacheManager = new OmdbCaffeineCacheManager();
+        cacheManager.setAsyncCacheMode(true);
+        LocalTitleIndex listening = new LocalTitleIndex(properties, new ObjectMapper(), cacheManager);
+        OmdbMovie movie = new OmdbMovie();
+        movie.setImdbId("tt1375666");
+        movie.setTitle("Inception");
+        movie.setResponse("True");
+
+        // When
+        cacheManager.getCache(CacheConfig.MOVIE_BY_IMDB_ID_CACHE).put(OmdbCacheKey.imdbId("tt1375666", "short"), movie);
+
+        // Then
+        assertThat(listening.search("inception", null, null, 10)).extracting(hit -> hit.entry().imdbId()).containsExactly("tt1375666");
+    }
+
+    @Test
+    void save_AndReloadWithPersistence_ShouldRestoreEntries(@TempDir Path directory) throws Exception {
+        // Given
+        Path file = directory.resolve("title-index.jsonl");
+        index.save(file);
+        LocalIndexProperties persistent = new LocalIndexProperties();
+        persistent.setPersist(true);
+        persistent.setFile(file.toString());
+
+        // When
+        LocalTitleIndex reloaded = new LocalTitleIndex(persistent, new ObjectMapper());
+
+        // Then
+        assertThat(reloaded.size()).isEqualTo(4);
+        assertThat(reloaded.search("godfather", "1972", null, 10)).hasSize(1);
+    }
+}
@@ -0,0 +1,147 @@
+package co.tyrell.omdb_mcp_server.service;
+
+import co.tyrell.omdb_mcp_server.config.CacheConfig;
+import co.tyrell.omdb_mcp_server.config.LocalIndexProperties;
+import co.tyrell.omdb_mcp_server.config.McpProperties;
+import co.tyrell.omdb_mcp_server.config.OmdbBatchProperties;
+import co.tyrell.omdb_mcp_server.model.mcp.McpNotification;
+import co.tyrell.omdb_mcp_server.model.mcp.McpRequest;
+import co.tyrell.omdb_mcp_server.model.mcp.McpResponse;
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbMovie;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class McpServiceTest {
+
+    @Mock
+    private OmdbService omdbService;
+
+    @Mock
+    private OmdbBatchService omdbBatchService;
+
+    @Mock
+    private LocalTitleIndex localTitleIndex;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private McpService mcpService;
+
+    @BeforeEach
+    void setUp() {
+        mcpService = new McpService(omdbService, omdbBatchService, new OmdbBatchProperties(), localTitleIndex,
+                new LocalIndexProperties(), new McpProperties(), new OmdbJsonWriter(objectMapper),
+                new ToolOutputRenderer(new CacheConfig(), objectMapper), objectMapper);
+    }
+
+    @Test
+    void streamRequest_ForBatchLookup_ShouldSendEachMovieAsItCompletesThenAllInRequestOrder() throws Exception {
+        // Given: the second movie completes first
+        when(omdbBatchService.streamMoviesByImdbIds(eq(List.of("tt0133093", "tt1375666")), any()))
+                .thenReturn(Flux.just(lookup("tt1375666", "Inception"), lookup("tt0133093", "The Matrix")));
+        McpRequest request = new McpRequest();
+        request.setId("4");
+        request.setMethod("tools/call");
+        request.setParams(objectMapper.readTree(
+                "{\"name\": \"get_movies_by_imdb_ids\", \"arguments\": {\"imdbIds\": [\"tt0133093\", \"tt1375666\"]},"
+                        + " \"_meta\": {\"progressToken\": \"batch-1\"}}"));
+
+        // When
+        List<Object> messages = mcpService.streamRequest(request).collectList().block();
+
+        // Then
+        assertThat(messages).hasSize(5);
+        assertThat(messages.subList(0, 4)).allSatisfy(message -> assertThat(message).isInstanceOf(McpNotification.class));
+        assertThat(((McpNotification) messages.get(0)).getParams())
+                .containsEntry("progressToken", "batch-1").containsEntry("progress", 1L).containsEntry("total", 2L);
+        assertThat(((McpNotification) messages.get(1)).getMethod()).isEqualTo(McpNotification.PARTIAL_RESULT);
+        assertThat(objectMapper.writeValueAsString(messages.get(1))).contains("Inception");
+
+        McpResponse response = (McpResponse) messages.get(4);
+        String text = objectMapper.readTree(objectMapper.writeValueAsString(response))
+                .at("/result/content/0/text").asText();
+        assertThat(response.getId()).isEqualTo("4");
+        assertThat(text.indexOf("The Matrix")).isLessThan(text.indexOf("Inception"));
+    }
+
+    @Test
+    void streamRequest_ForBatchLookupWithoutProgressToken_ShouldSendNoProgressNotifications() throws Exception {
+        // Given
+        when(omdbBatchService.streamMoviesByImdbIds(eq(List.of("tt0133093", "tt1375666")), any()))
+                .thenReturn(Flux.just(lookup("tt1375666", "Inception"), lookup("tt0133093", "The Matrix")));
+        McpRequest request = new McpRequest();
+        request.setId("4");
+        request.setMethod("tools/call");
+        request.setParams(objectMapper.readTree(
+                "{\"name\": \"get_movies_by_imdb_ids\", \"arguments\": {\"imdbIds\": [\"tt0133093\", \"tt1375666\"]}}"));
+
+        // When
+        List<Object> messages = mcpService.streamRequest(request).collectList().block();
+
+        // Then
+        assertThat(messages).hasSize(3);
+        assertThat(messages.subList(0, 2)).allSatisfy(message -> assertThat(message)
+                .isInstanceOfSatisfying(McpNotification.class, notification ->
+                        assertThat(notification.getMethod()).isEqualTo(McpNotification.PARTIAL_RESULT)));
+        assertThat(messages.get(2)).isInstanceOf(McpResponse.class);
+    }
+
+    @Test
+    void streamRequest_ForToolWithoutStreamHandler_ShouldSendOnlyTheResponse() throws Exception {
+        // Given
+        McpRequest request = new McpRequest();
+        request.setId("5");
+        request.setMethod("tools/call");
+        request.setParams(objectMapper.readTree("{\"name\": \"get_movie_details\", \"arguments\": {}}"));
+
+        // When
+        List<Object> messages = mcpService.streamRequest(request).collectList().block();
+
+        // Then
+        assertThat(messages).singleElement()
+                .isInstanceOfSatisfying(McpResponse.class, response -> assertThat(response.getError().getCode()).isEqualTo(-32602));
+    }
+
+    @Test
+    void handleRequest_ForMovieByImdbIdAsJson_ShouldReturnUpstreamJsonAsStructuredContent() throws Exception {
+        // Given
+        String json = "{\"Title\":\"The Matrix\",\"imdbID\":\"tt0133093\",\"Response\":\"True\"}";
+        OmdbMovie movie = objectMapper.readValue(json, OmdbMovie.class);
+        movie.setRawJson(json);
+        when(omdbService.getMovieByImdbId("tt0133093", null)).thenReturn(Mono.just(movie));
+        McpRequest request = new McpRequest();
+        request.setId("6");
+        request.setMethod("tools/call");
+        request.setParams(objectMapper.readTree(
+                "{\"name\": \"get_movie_by_imdb_id\", \"arguments\": {\"imdbId\": \"tt0133093\", \"format\": \"json\"}}"));
+
+        // When
+        McpResponse response = mcpService.handleRequest(request).block();
+
+        // Then
+        JsonNode result = objectMapper.readTree(objectMapper.writeValueAsString(response)).get("result");
+        assertThat(result.get("structuredContent")).isEqualTo(objectMapper.readTree(json));
+        assertThat(result.at("/content/0/text").asText()).isEqualTo(json);
+    }
+
+    private static OmdbBatchService.MovieLookup lookup(String imdbId, String title) {
+        OmdbMovie movie = new OmdbMovie();
+        movie.setImdbId(imdbId);
+        movie.setTitle(title);
+        movie.setResponse("True");
+        return new OmdbBatchService.MovieLookup(imdbId, movie, null);
+    }
+}
@@ -0,0 +1,106 @@
+package co.tyrell.omdb_mcp_server.service;
+
+import co.tyrell.omdb_mcp_server.model.mcp.McpResponse;
+import co.tyrell.omdb_mcp_server.model.mcp.McpTool;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class McpToolRegistryTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void build_WithTools_ShouldSerializeToolsListOnceInRegistrationOrder() throws Exception {
+        // Given
+        McpToolRegistry registry = McpToolRegistry.builder(objectMapper)
+                .register(tool("search_movies"), MovieSearchTools.SearchMoviesRequest.class, (arguments, response) -> Mono.just(response))
+                .register(tool("get_movie_details"), MovieSearchTools.MovieDetailsRequest.class, (arguments, response) -> Mono.just(response))
+                .build();
+        McpResponse response = new McpResponse();
+        response.setId("1");
+        response.setResult(registry.getToolsListResult());
+
+        // When
+        String json = objectMapper.writeValueAsString(response);
+
+        // Then
+        assertThat(registry.getTools()).extracting(McpTool::getName).containsExactly("search_movies", "get_movie_details");
+        assertThat(registry.getToolsListResult()).isSameAs(registry.getToolsListResult());
+        assertThat(objectMapper.readTree(json).get("result"))
+                .isEqualTo(objectMapper.valueToTree(Map.of("tools", registry.getTools())));
+    }
+
+    @Test
+    void find_ByName_ShouldReturnRegisteredHandler() {
+        // Given
+        McpToolRegistry.ToolHandler<MovieSearchTools.MovieDetailsRequest> handler = (arguments, response) -> Mono.just(response);
+        McpToolRegistry registry = McpToolRegistry.builder(objectMapper)
+                .register(tool("get_movie_details"), MovieSearchTools.MovieDetailsRequest.class, handler)
+                .build();
+
+        // Then
+        assertThat(registry.find("get_movie_details")).get().extracting(McpToolRegistry.Registration::handler).isSameAs(handler);
+        assertThat(registry.find("unknown")).isEmpty();
+        assertThat(registry.find(null)).isEmpty();
+    }
+
+    @Test
+    void call_WithArguments_ShouldBindThemToTheArgumentRecord() throws Exception {
+        // Given
+        AtomicReference<MovieSearchTools.SearchMoviesRequest> bound = new AtomicReference<>();
+        McpToolRegistry registry = McpToolRegistry.builder(objectMapper)
+                .register(tool("search_movies"), MovieSearchTools.SearchMoviesRequest.class, (arguments, response) -> {
+                    bound.set(arguments);
+                    return Mono.just(response);
+                })
+                .build();
+        JsonNode arguments = objectMapper.readTree("{\"title\": \"The Matrix\", \"page\": 2, \"enrich\": true}");
+
+        // When
+        registry.find("search_movies").orElseThrow().call(arguments, new McpResponse()).block();
+
+        // Then
+        assertThat(bound.get()).isEqualTo(new MovieSearchTools.SearchMoviesRequest("The Matrix", null, null, 2, null, true, null));
+    }
+
+    @Test
+    void call_WithArgumentsOfTheWrongType_ShouldBeRejected() throws Exception {
+        // Given
+        McpToolRegistry registry = McpToolRegistry.builder(objectMapper)
+                .register(tool("search_movies"), MovieSearchTools.SearchMoviesRequest.class, (arguments, response) -> Mono.just(response))
+                .build();
+        JsonNode arguments = objectMapper.readTree("{\"title\": \"The Matrix\", \"page\": \"second\"}");
+
+        // Then
+        assertThatThrownBy(() -> registry.find("search_movies").orElseThrow().call(arguments, new McpResponse()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid arguments for search_movies");
+    }
+
+    @Test
+    void register_WithDuplicateName_ShouldBeRejected() {
+        // Given
+        McpToolRegistry.Builder builder = McpToolRegistry.builder(objectMapper)
+                .register(tool("search_movies"), MovieSearchTools.SearchMoviesRequest.class, (arguments, response) -> Mono.just(response));
+
+        // Then
+        assertThatThrownBy(() -> builder.register(tool("search_movies"), MovieSearchTools.LocalSearchRequest.class, (arguments, response) -> Mono.just(response)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static McpTool tool(String name) {
+        McpTool tool = new McpTool();
+        tool.setName(name);
+        tool.setDescription("Tool " + name);
+        tool.setInputSchema(new McpTool.InputSchema());
+        return tool;
+    }
+}
@@ -1,7 +1,11 @@
 package co.tyrell.omdb_mcp_server.service;
 
+import co.tyrell.omdb_mcp_server.config.CacheConfig;
+import co.tyrell.omdb_mcp_server.config.LocalIndexProperties;
+import co.tyrell.omdb_mcp_server.config.OmdbBatchProperties;
 import co.tyrell.omdb_mcp_server.model.omdb.OmdbMovie;
 import co.tyrell.omdb_mcp_server.model.omdb.OmdbSearchResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,10 +14,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.quality.Strictness;
 import org.mockito.junit.jupiter.MockitoSettings;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,11 +29,14 @@ class MovieSearchToolsTest {
     @Mock
     private OmdbService omdbService;
 
+    private LocalTitleIndex localTitleIndex;
     private MovieSearchTools movieSearchTools;
 
     @BeforeEach
     void setUp() {
-        movieSearchTools = new MovieSearchTools(omdbService);
+        localTitleIndex = new LocalTitleIndex(new LocalIndexProperties(), new ObjectMapper());
+        movieSearchTools = new MovieSearchTools(omdbService, new OmdbBatchService(omdbService, new OmdbBatchProperties()), localTitleIndex,
+                new OmdbJsonWriter(new ObjectMapper()), new ToolOutputRenderer(new CacheConfig(), new ObjectMapper()));
     }
 
     @Test
@@ -166,6 +175,92 @@ class MovieSearchToolsTest {
         assertThat(result).contains("Invalid ID");
     }
 
+    @Test
+    void getMovieByImdbIdAsync_WithValidId_ShouldEmitFormattedDetails() {
+        // Given
+        OmdbMovie movie = createTestMovie();
+        when(omdbService.getMovieByImdbId(eq("tt1375666"), eq("short")))
+            .thenReturn(Mono.just(movie));
+
+        // When / Then
+        StepVerifier.create(movieSearchTools.getMovieByImdbIdAsync("tt1375666", "short"))
+            .assertNext(result -> assertThat(result).contains("Inception").contains("tt1375666"))
+            .verifyComplete();
+    }
+
+    @Test
+    void getMovieDetailsAsync_WithError_ShouldEmitErrorMessage() {
+        // Given
+        when(omdbService.getMovieByTitle(anyString(), anyString(), anyString()))
+            .thenReturn(Mono.error(new RuntimeException("Service error")));
+
+        // When / Then
+        StepVerifier.create(movieSearchTools.getMovieDetailsAsync("Unknown", "2024", "short"))
+            .assertNext(result -> assertThat(result).contains("Error").contains("Service error"))
+            .verifyComplete();
+    }
+
+    @Test
+    void searchMovies_WithEnrich_ShouldIncludeDetailsForTopResults() {
+        // Given
+        OmdbSearchResponse searchResponse = new OmdbSearchResponse();
+        OmdbSearchResponse.SearchResult first = new OmdbSearchResponse.SearchResult();
+        first.setTitle("Inception");
+        first.setYear("2010");
+        first.setImdbId("tt1375666");
+        OmdbSearchResponse.SearchResult second = new OmdbSearchResponse.SearchResult();
+        second.setTitle("Inception: The Cobol Job");
+        second.setYear("2010");
+        second.setImdbId("tt5295894");
+        searchResponse.setSearch(new OmdbSearchResponse.SearchResult[]{first, second});
+        searchResponse.setTotalResults("2");
+        searchResponse.setResponse("True");
+        when(omdbService.searchMovies(eq("Inception"), eq(null), eq(null)))
+            .thenReturn(Mono.just(searchResponse));
+        when(omdbService.getMovieByImdbId(eq("tt1375666"), eq(null)))
+            .thenReturn(Mono.just(createTestMovie()));
+
+        // When
+        String result = movieSearchTools.searchMovies(
+            new MovieSearchTools.SearchMoviesRequest("Inception", null, null, null, null, true, 1));
+
+        // Then
+        assertThat(result).contains("Director: Christopher Nolan");
+        assertThat(result).contains("Details loaded for 1 of 1 top results");
+        assertThat(result).contains("tt5295894");
+    }
+
+    @Test
+    void localSearch_WithIndexedTitle_ShouldAnswerWithoutOmdb() {
+        // Given
+        localTitleIndex.index(createTestMovie());
+
+        // When
+        String result = movieSearchTools.localSearch(new MovieSearchTools.LocalSearchRequest("incepton", null, null, null, null));
+
+        // Then
+        assertThat(result).contains("Local Index Results (1 matches)");
+        assertThat(result).contains("tt1375666");
+        verifyNoInteractions(omdbService);
+    }
+
+    @Test
+    void getMoviesByImdbIds_WithFoundAndMissingIds_ShouldCombineResults() {
+        // Given
+        when(omdbService.getMovieByImdbId(eq("tt1375666"), eq("short")))
+            .thenReturn(Mono.just(createTestMovie()));
+        when(omdbService.getMovieByImdbId(eq("tt0000000"), eq("short")))
+            .thenReturn(Mono.error(new RuntimeException("Incorrect IMDb ID.")));
+
+        // When
+        String result = movieSearchTools.getMoviesByImdbIds(java.util.List.of("tt1375666", "tt0000000"), "short");
+
+        // Then
+        assertThat(result).startsWith("Found 1 of 2 movies");
+        assertThat(result).contains("Christopher Nolan");
+        assertThat(result).contains("tt0000000: Movie not found: Incorrect IMDb ID.");
+    }
+
     private OmdbMovie createTestMovie() {
         OmdbMovie movie = new OmdbMovie();
         movie.setTitle("Inception");
@@ -0,0 +1,81 @@
+package co.tyrell.omdb_mcp_server.service;
+
+import co.tyrell.omdb_mcp_server.cache.OmdbCacheKey;
+import co.tyrell.omdb_mcp_server.config.OfflineCatalogProperties;
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbMovie;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OfflineCatalogTest {
+
+    @TempDir
+    Path directory;
+
+    private OfflineCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new OfflineCatalog(new OfflineCatalogProperties(), new ObjectMapper(), false);
+    }
+
+    @Test
+    void importFile_WithValidAndInvalidLines_ShouldIndexMoviesAndSkipTheRest() throws Exception {
+        // Given
+        Path file = Files.write(directory.resolve("movies.jsonl"), List.of(
+                "{\"Title\":\"The Matrix\",\"Year\":\"1999\",\"imdbID\":\"tt0133093\",\"Type\":\"movie\",\"Director\":\"Lana Wachowski\"}",
+                "not json",
+                "",
+                "{\"Title\":\"No ID\",\"Year\":\"2000\"}",
+                "{\"Title\":\"The Godfather\",\"Year\":\"1972\",\"imdbID\":\"tt0068646\",\"Response\":\"True\"}"));
+
+        // When
+        OfflineCatalog.ImportResult result = catalog.importFile(file);
+
+        // Then
+        assertThat(result.records()).isEqualTo(2);
+        assertThat(result.skipped()).isEqualTo(2);
+        assertThat(result.recordsPerSecond()).isPositive();
+        assertThat(catalog.size()).isEqualTo(2);
+    }
+
+    @Test
+    void find_ByImdbIdOrNormalizedTitle_ShouldReturnCatalogMovie() throws Exception {
+        // Given
+        catalog.importFile(Files.write(directory.resolve("movies.jsonl"), List.of(
+                "{\"Title\":\"The Matrix\",\"Year\":\"1999\",\"imdbID\":\"tt0133093\",\"Director\":\"Lana Wachowski\"}")));
+
+        // When
+        OmdbMovie byId = catalog.find(OmdbCacheKey.imdbId("TT0133093", "short")).orElseThrow();
+        OmdbMovie byTitle = catalog.find(OmdbCacheKey.title("  THE matrix ", null, null)).orElseThrow();
+
+        // Then
+        assertThat(byId.getDirector()).isEqualTo("Lana Wachowski");
+        assertThat(byId.isSuccessful()).isTrue();
+        assertThat(byTitle.getImdbId()).isEqualTo("tt0133093");
+        assertThat(catalog.find(OmdbCacheKey.title("The Matrix", "2003", null))).isEmpty();
+        assertThat(catalog.getStats()).containsEntry("hitCount", 2L);
+    }
+
+    @Test
+    void importFile_Again_ShouldReplaceCatalog() throws Exception {
+        // Given
+        catalog.importFile(Files.write(directory.resolve("first.jsonl"), List.of(
+                "{\"Title\":\"The Matrix\",\"Year\":\"1999\",\"imdbID\":\"tt0133093\"}")));
+
+        // When
+        catalog.importFile(Files.write(directory.resolve("second.jsonl"), List.of(
+                "{\"Title\":\"Inception\",\"Year\":\"2010\",\"imdbID\":\"tt1375666\"}")));
+
+        // Then
+        assertThat(catalog.find(OmdbCacheKey.imdbId("tt0133093", null))).isEmpty();
+        assertThat(catalog.find(OmdbCacheKey.imdbId("tt1375666", null))).isPresent();
+    }
+}
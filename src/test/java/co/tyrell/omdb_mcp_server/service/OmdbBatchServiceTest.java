@@ -0,0 +1,186 @@
+package co.tyrell.omdb_mcp_server.service;
+
+import co.tyrell.omdb_mcp_server.config.OmdbBatchProperties;
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbMovie;
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbSearchResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OmdbBatchServiceTest {
+
+    @Mock
+    private OmdbService omdbService;
+
+    private OmdbBatchProperties batchProperties;
+    private OmdbBatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        batchProperties = new OmdbBatchProperties();
+        batchService = new OmdbBatchService(omdbService, batchProperties);
+    }
+
+    @Test
+    void getMoviesByImdbIds_WithDuplicates_ShouldLookUpEachIdOnceInOrder() {
+        // Given: the first lookup is the slowest, so completion order differs from request order
+        when(omdbService.getMovieByImdbId(eq("tt0133093"), any()))
+                .thenReturn(Mono.delay(Duration.ofMillis(50)).thenReturn(movie("tt0133093")));
+        when(omdbService.getMovieByImdbId(eq("tt1375666"), any()))
+                .thenReturn(Mono.just(movie("tt1375666")));
+
+        // When
+        List<OmdbBatchService.MovieLookup> lookups = batchService
+                .getMoviesByImdbIds(List.of("tt0133093", " tt1375666", "TT0133093", ""), null)
+                .block();
+
+        // Then
+        assertThat(lookups).extracting(OmdbBatchService.MovieLookup::imdbId).containsExactly("tt0133093", "tt1375666");
+        assertThat(lookups).allMatch(OmdbBatchService.MovieLookup::isFound);
+        verify(omdbService, times(1)).getMovieByImdbId(eq("tt0133093"), any());
+    }
+
+    @Test
+    void getMoviesByImdbIds_WithFailingLookup_ShouldReportErrorForThatIdOnly() {
+        // Given
+        when(omdbService.getMovieByImdbId(eq("tt1375666"), any())).thenReturn(Mono.just(movie("tt1375666")));
+        when(omdbService.getMovieByImdbId(eq("tt0000000"), any())).thenReturn(Mono.error(new RuntimeException("timeout")));
+
+        // When
+        List<OmdbBatchService.MovieLookup> lookups = batchService
+                .getMoviesByImdbIds(List.of("tt0000000", "tt1375666"), "short")
+                .block();
+
+        // Then
+        assertThat(lookups.get(0).isFound()).isFalse();
+        assertThat(lookups.get(0).error()).isEqualTo("timeout");
+        assertThat(lookups.get(1).isFound()).isTrue();
+    }
+
+    @Test
+    void getMoviesByImdbIds_WithTooManyIds_ShouldFail() {
+        // Given
+        batchProperties.setMaxIds(2);
+
+        // Then
+        assertThatThrownBy(() -> batchService.getMoviesByImdbIds(List.of("tt1", "tt2", "tt3"), null).block())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(batchService.getMoviesByImdbIds(Collections.emptyList(), null).block()).isEmpty();
+    }
+
+    @Test
+    void hydrateSearchResults_WithSlowLookup_ShouldReturnWhatCompletedByDeadline() {
+        // Given
+        batchProperties.setEnrichDeadline(Duration.ofMillis(100));
+        when(omdbService.getMovieByImdbId(eq("tt1375666"), any())).thenReturn(Mono.just(movie("tt1375666")));
+        when(omdbService.getMovieByImdbId(eq("tt0133093"), any()))
+                .thenReturn(Mono.delay(Duration.ofSeconds(5)).thenReturn(movie("tt0133093")));
+
+        // When
+        Map<String, OmdbMovie> details = batchService
+                .hydrateSearchResults(searchResponse("tt1375666", "tt0133093", "tt0468569"), 2)
+                .block(Duration.ofSeconds(2));
+
+        // Then
+        assertThat(details).containsOnlyKeys("tt1375666");
+        verify(omdbService, never()).getMovieByImdbId(eq("tt0468569"), any());
+    }
+
+    @Test
+    void search_WithMaxResultsAcrossPages_ShouldCombineResultsInOrderUpToMaxResults() {
+        // Given
+        when(omdbService.searchMovies(eq("Star Wars"), any(), any())).thenReturn(Mono.just(page(1, "57")));
+        when(omdbService.searchMovies(eq("Star Wars"), any(), any(), eq(2)))
+                .thenReturn(Mono.delay(Duration.ofMillis(50)).thenReturn(page(2, "57")));
+        when(omdbService.searchMovies(eq("Star Wars"), any(), any(), eq(3))).thenReturn(Mono.just(page(3, "57")));
+
+        // When
+        OmdbSearchResponse.SearchResult[] results = batchService
+                .search("Star Wars", null, null, null, 25)
+                .block()
+                .getSearch();
+
+        // Then
+        assertThat(results).hasSize(25);
+        assertThat(results[0].getImdbId()).isEqualTo("tt1-0");
+        assertThat(results[10].getImdbId()).isEqualTo("tt2-0");
+        assertThat(results[24].getImdbId()).isEqualTo("tt3-4");
+        verify(omdbService, never()).searchMovies(any(), any(), any(), eq(4));
+    }
+
+    @Test
+    void search_WithMaxResultsAndFailingPage_ShouldReturnPagesBeforeFailure() {
+        // Given
+        when(omdbService.searchMovies(eq("Star Wars"), any(), any())).thenReturn(Mono.just(page(1, "57")));
+        when(omdbService.searchMovies(eq("Star Wars"), any(), any(), eq(2))).thenReturn(Mono.error(new RuntimeException("timeout")));
+        lenient().when(omdbService.searchMovies(eq("Star Wars"), any(), any(), eq(3))).thenReturn(Mono.just(page(3, "57")));
+
+        // When
+        OmdbSearchResponse combined = batchService.search("Star Wars", null, null, null, 30).block();
+
+        // Then
+        assertThat(combined.isSuccessful()).isTrue();
+        assertThat(combined.getTotalResults()).isEqualTo("57");
+        assertThat(combined.getSearch()).hasSize(10);
+    }
+
+    @Test
+    void enrichLimit_ShouldDefaultAndCapRequestedLimit() {
+        // Given
+        batchProperties.setEnrichDefaultLimit(3);
+        batchProperties.setEnrichMaxLimit(5);
+
+        // Then
+        assertThat(batchService.enrichLimit(null)).isEqualTo(3);
+        assertThat(batchService.enrichLimit(50)).isEqualTo(5);
+        assertThat(batchService.enrichLimit(-1)).isZero();
+    }
+
+    private static OmdbSearchResponse page(int page, String totalResults) {
+        String[] imdbIds = new String[10];
+        for (int i = 0; i < imdbIds.length; i++) {
+            imdbIds[i] = "tt" + page + "-" + i;
+        }
+        OmdbSearchResponse response = searchResponse(imdbIds);
+        response.setTotalResults(totalResults);
+        return response;
+    }
+
+    private static OmdbSearchResponse searchResponse(String... imdbIds) {
+        OmdbSearchResponse.SearchResult[] hits = new OmdbSearchResponse.SearchResult[imdbIds.length];
+        for (int i = 0; i < imdbIds.length; i++) {
+            hits[i] = new OmdbSearchResponse.SearchResult();
+            hits[i].setImdbId(imdbIds[i]);
+        }
+        OmdbSearchResponse response = new OmdbSearchResponse();
+        response.setSearch(hits);
+        response.setResponse("True");
+        return response;
+    }
+
+    private static OmdbMovie movie(String imdbId) {
+        OmdbMovie movie = new OmdbMovie();
+        movie.setImdbId(imdbId);
+        movie.setResponse("True");
+        return movie;
+    }
+}
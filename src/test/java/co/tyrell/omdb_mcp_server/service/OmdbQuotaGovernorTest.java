@@ -0,0 +1,114 @@
+package co.tyrell.omdb_mcp_server.service;
+
+import co.tyrell.omdb_mcp_server.config.OmdbQuotaProperties;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OmdbQuotaGovernorTest {
+
+    @Test
+    void execute_WhenBudgetRunsLow_ShouldRefuseLowerPrioritiesFirst() {
+        // Given
+        OmdbQuotaGovernor governor = new OmdbQuotaGovernor(properties(10, 0.4, 1000), Clock.systemUTC());
+        for (int i = 0; i < 6; i++) {
+            governor.execute(OmdbQuotaGovernor.Priority.HIGH, () -> Mono.just("ok")).block();
+        }
+
+        // Then: 6 of 10 used, searches stop at 6, title lookups at 8, ID lookups at 10
+        assertThatThrownBy(() -> governor.execute(OmdbQuotaGovernor.Priority.LOW, () -> Mono.just("search")).block())
+                .isInstanceOf(QuotaExceededException.class);
+        assertThat(governor.execute(OmdbQuotaGovernor.Priority.NORMAL, () -> Mono.just("title")).block()).isEqualTo("title");
+        assertThat(governor.execute(OmdbQuotaGovernor.Priority.HIGH, () -> Mono.just("id")).block()).isEqualTo("id");
+        assertThat(governor.getStats())
+                .containsEntry("usedToday", 8L)
+                .containsEntry("remainingToday", 2L)
+                .containsEntry("rejectedCount", 1L);
+    }
+
+    @Test
+    void execute_OnNewDay_ShouldResetBudget() {
+        // Given
+        MutableClock clock = new MutableClock(Instant.parse("2025-01-01T23:59:00Z"));
+        OmdbQuotaGovernor governor = new OmdbQuotaGovernor(properties(1, 0, 1000), clock);
+        governor.execute(OmdbQuotaGovernor.Priority.HIGH, () -> Mono.just("ok")).block();
+        assertThatThrownBy(() -> governor.execute(OmdbQuotaGovernor.Priority.HIGH, () -> Mono.just("ok")).block())
+                .isInstanceOf(QuotaExceededException.class);
+
+        // When
+        clock.instant = Instant.parse("2025-01-02T00:01:00Z");
+
+        // Then
+        assertThat(governor.execute(OmdbQuotaGovernor.Priority.HIGH, () -> Mono.just("ok")).block()).isEqualTo("ok");
+    }
+
+    @Test
+    void execute_BeyondBurst_ShouldDelayOrRejectCalls() {
+        // Given: one call per second, burst of one, callers wait at most 100ms
+        OmdbQuotaProperties properties = properties(-1, 0, 1);
+        properties.setBurst(1);
+        properties.setMaxWait(Duration.ofMillis(100));
+        OmdbQuotaGovernor governor = new OmdbQuotaGovernor(properties, Clock.systemUTC());
+
+        // When
+        governor.execute(OmdbQuotaGovernor.Priority.HIGH, () -> Mono.just("first")).block();
+
+        // Then
+        assertThatThrownBy(() -> governor.execute(OmdbQuotaGovernor.Priority.HIGH, () -> Mono.just("second")).block())
+                .isInstanceOf(QuotaExceededException.class)
+                .hasMessageContaining("rate limit");
+    }
+
+    @Test
+    void execute_WhenDisabled_ShouldNotCountCalls() {
+        // Given
+        OmdbQuotaProperties properties = properties(0, 0, 1000);
+        properties.setEnabled(false);
+        OmdbQuotaGovernor governor = new OmdbQuotaGovernor(properties, Clock.systemUTC());
+
+        // Then
+        assertThat(governor.execute(OmdbQuotaGovernor.Priority.LOW, () -> Mono.just("ok")).block()).isEqualTo("ok");
+        assertThat(governor.getStats()).containsEntry("usedToday", 0L);
+    }
+
+    private static OmdbQuotaProperties properties(long dailyBudget, double reservedFraction, double permitsPerSecond) {
+        OmdbQuotaProperties properties = new OmdbQuotaProperties();
+        properties.setEnabled(true);
+        properties.setDailyBudget(dailyBudget);
+        properties.setReservedFraction(reservedFraction);
+        properties.setPermitsPerSecond(permitsPerSecond);
+        properties.setBurst(100);
+        return properties;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
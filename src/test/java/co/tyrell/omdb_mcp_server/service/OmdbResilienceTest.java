@@ -0,0 +1,147 @@
+package co.tyrell.omdb_mcp_server.service;
+
+import co.tyrell.omdb_mcp_server.config.OmdbResilienceProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OmdbResilienceTest {
+
+    private OmdbResilienceProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OmdbResilienceProperties();
+        properties.getRetry().setInitialBackoff(Duration.ofMillis(1));
+        properties.getRetry().setMaxBackoff(Duration.ofMillis(5));
+    }
+
+    @Test
+    void execute_WithTransientFailure_ShouldRetry() {
+        // Given
+        OmdbResilience resilience = new OmdbResilience(properties);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = resilience.execute(() -> attempts.incrementAndGet() < 3
+                ? Mono.<String>error(new TimeoutException("slow"))
+                : Mono.just("ok")).block();
+
+        // Then
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts).hasValue(3);
+        assertThat(resilience.getStats()).containsEntry("retryCount", 2L);
+    }
+
+    @Test
+    void execute_WithClientError_ShouldNotRetry() {
+        // Given
+        OmdbResilience resilience = new OmdbResilience(properties);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When / Then
+        assertThatThrownBy(() -> resilience.execute(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(WebClientResponseException.create(HttpStatus.UNAUTHORIZED.value(), "Unauthorized", null, null, null));
+        }).block()).isInstanceOf(WebClientResponseException.class);
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void execute_WhenCircuitOpens_ShouldFailFastWithoutCallingUpstream() {
+        // Given
+        properties.getRetry().setEnabled(false);
+        properties.getCircuitBreaker().setMinimumCalls(2);
+        OmdbResilience resilience = new OmdbResilience(properties);
+        AtomicInteger attempts = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            resilience.execute(() -> {
+                attempts.incrementAndGet();
+                return Mono.error(new TimeoutException("slow"));
+            }).onErrorResume(e -> Mono.empty()).block();
+        }
+
+        // When / Then
+        assertThatThrownBy(() -> resilience.execute(() -> {
+            attempts.incrementAndGet();
+            return Mono.just("ok");
+        }).block()).isInstanceOf(CircuitOpenException.class);
+        assertThat(attempts).hasValue(2);
+        assertThat(resilience.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void execute_WithHedgingAndSlowPrimary_ShouldUseFasterHedge() {
+        // Given
+        properties.getRetry().setEnabled(false);
+        properties.getHedge().setEnabled(true);
+        properties.getHedge().setMinimumSamples(1);
+        properties.getHedge().setMinDelay(Duration.ofMillis(10));
+        properties.getHedge().setMaxDelay(Duration.ofMillis(10));
+        OmdbResilience resilience = new OmdbResilience(properties);
+        resilience.execute(() -> Mono.just("warm-up")).block();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = resilience.execute(() -> attempts.incrementAndGet() == 1
+                ? Mono.delay(Duration.ofSeconds(5)).thenReturn("slow")
+                : Mono.just("fast")).block(Duration.ofSeconds(2));
+
+        // Then
+        assertThat(result).isEqualTo("fast");
+        assertThat(resilience.getStats()).containsEntry("hedgeCount", 1L);
+    }
+
+    @Test
+    void execute_WithRefusedHedge_ShouldKeepWaitingForPrimary() {
+        // Given
+        properties.getRetry().setEnabled(false);
+        properties.getHedge().setEnabled(true);
+        properties.getHedge().setMinimumSamples(1);
+        properties.getHedge().setMinDelay(Duration.ofMillis(10));
+        properties.getHedge().setMaxDelay(Duration.ofMillis(10));
+        OmdbResilience resilience = new OmdbResilience(properties);
+        resilience.execute(() -> Mono.just("warm-up")).block();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = resilience.execute(() -> attempts.incrementAndGet() == 1
+                ? Mono.delay(Duration.ofMillis(200)).thenReturn("primary")
+                : Mono.<String>error(new QuotaExceededException("Daily OMDB quota exhausted"))).block(Duration.ofSeconds(2));
+
+        // Then
+        assertThat(result).isEqualTo("primary");
+        assertThat(attempts).hasValue(2);
+        assertThat(resilience.getStats()).containsEntry("failureRate", 0.0);
+    }
+
+    @Test
+    void execute_WithHedgingAndFailingPrimary_ShouldReportPrimaryError() {
+        // Given
+        properties.getRetry().setEnabled(false);
+        properties.getHedge().setEnabled(true);
+        properties.getHedge().setMinimumSamples(1);
+        properties.getHedge().setMinDelay(Duration.ofSeconds(1));
+        properties.getHedge().setMaxDelay(Duration.ofSeconds(1));
+        OmdbResilience resilience = new OmdbResilience(properties);
+        resilience.execute(() -> Mono.just("warm-up")).block();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When / Then
+        assertThatThrownBy(() -> resilience.execute(() -> {
+            attempts.incrementAndGet();
+            return Mono.<String>error(new TimeoutException("slow"));
+        }).block(Duration.ofMillis(500))).hasCauseInstanceOf(TimeoutException.class);
+        assertThat(attempts).hasValue(1);
+        assertThat(resilience.getStats()).containsEntry("hedgeCount", 0L);
+    }
+}
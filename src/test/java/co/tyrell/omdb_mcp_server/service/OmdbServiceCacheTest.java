@@ -14,7 +14,9 @@ import static org.junit.jupiter.api.Assertions.*;
 @TestPropertySource(properties = {
     "omdb.api.key=test-key",
     "cache.expire-after-write=1h",
-    "cache.maximum-size=100"
+    "cache.maximum-size=100",
+    "cache.movie-by-title.maximum-size=50",
+    "cache.movie-by-imdb-id.maximum-weight=1MB"
 })
 class OmdbServiceCacheTest {
 
@@ -48,4 +50,35 @@ class OmdbServiceCacheTest {
             assertNotNull(caffeineCache.getNativeCache().stats());
         }
     }
+
+    @Test
+    void testPerCacheSizing() {
+        // Search cache inherits the common maximum size
+        var searchEviction = nativeCache(CacheConfig.MOVIE_SEARCH_CACHE).policy().eviction().orElseThrow();
+        assertFalse(searchEviction.isWeighted());
+        assertEquals(100, searchEviction.getMaximum());
+        
+        // Title cache overrides the maximum size
+        var titleEviction = nativeCache(CacheConfig.MOVIE_BY_TITLE_CACHE).policy().eviction().orElseThrow();
+        assertEquals(50, titleEviction.getMaximum());
+        
+        // IMDB ID cache is bounded by estimated entry size in bytes
+        var imdbIdEviction = nativeCache(CacheConfig.MOVIE_BY_IMDB_ID_CACHE).policy().eviction().orElseThrow();
+        assertTrue(imdbIdEviction.isWeighted());
+        assertEquals(1024 * 1024, imdbIdEviction.getMaximum());
+    }
+
+    @Test
+    void testNegativeCacheConfiguration() {
+        // Negative results live in their own cache with per-entry expiry
+        var negativeCache = nativeCache(CacheConfig.MOVIE_NEGATIVE_CACHE);
+        assertTrue(negativeCache.policy().expireVariably().isPresent());
+        assertEquals(0, negativeCache.estimatedSize());
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache(String cacheName) {
+        org.springframework.cache.Cache cache = cacheManager.getCache(cacheName);
+        assertTrue(cache instanceof CaffeineCache);
+        return ((CaffeineCache) cache).getNativeCache();
+    }
 }
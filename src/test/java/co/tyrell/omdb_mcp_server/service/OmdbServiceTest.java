@@ -0,0 +1,205 @@
+package co.tyrell.omdb_mcp_server.service;
+
+import co.tyrell.omdb_mcp_server.cache.OmdbCacheKey;
+import co.tyrell.omdb_mcp_server.config.CacheConfig;
+import co.tyrell.omdb_mcp_server.config.LocalIndexProperties;
+import co.tyrell.omdb_mcp_server.config.OfflineCatalogProperties;
+import co.tyrell.omdb_mcp_server.config.OmdbProperties;
+import co.tyrell.omdb_mcp_server.config.OmdbQuotaProperties;
+import co.tyrell.omdb_mcp_server.config.OmdbResilienceProperties;
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbMovie;
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbSearchResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OmdbServiceTest {
+
+    private static final String INCEPTION = """
+            {"Title":"Inception","Year":"2010","imdbID":"tt1375666","Type":"movie","Response":"True"}
+            """;
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private CaffeineCacheManager cacheManager;
+    private OmdbQuotaGovernor quotaGovernor;
+    private LocalTitleIndex localTitleIndex;
+    private OfflineCatalog offlineCatalog;
+    private OmdbProperties properties;
+    private OmdbService omdbService;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager();
+        cacheManager.setAsyncCacheMode(true);
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCacheNames(List.of(CacheConfig.MOVIE_BY_IMDB_ID_CACHE, CacheConfig.MOVIE_TITLE_ALIAS_CACHE,
+                CacheConfig.MOVIE_NEGATIVE_CACHE, CacheConfig.MOVIE_STALE_CACHE));
+
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    upstreamCalls.incrementAndGet();
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(INCEPTION)
+                            .build());
+                })
+                .build();
+        OmdbQuotaProperties quota = new OmdbQuotaProperties();
+        quota.setEnabled(true);
+        quota.setDailyBudget(2);
+        quota.setReservedFraction(0);
+        quotaGovernor = new OmdbQuotaGovernor(quota);
+        localTitleIndex = new LocalTitleIndex(new LocalIndexProperties(), new ObjectMapper());
+        offlineCatalog = new OfflineCatalog(new OfflineCatalogProperties(), new ObjectMapper(), false);
+        properties = new OmdbProperties();
+        properties.setKey("test-key");
+        omdbService = new OmdbService(webClient, properties, new InFlightRequestRegistry(), cacheManager, quotaGovernor,
+                new OmdbResilience(new OmdbResilienceProperties()), localTitleIndex, offlineCatalog, new ObjectMapper());
+    }
+
+    @Test
+    void getMovieByTitle_WithSuccessfulResponse_ShouldSeedImdbIdCache() {
+        // When
+        OmdbMovie movie = omdbService.getMovieByTitle("Inception", "2010", null).block();
+
+        // Then
+        assertThat(movie).isNotNull();
+        assertThat(cacheManager.getCache(CacheConfig.MOVIE_BY_IMDB_ID_CACHE).get(OmdbCacheKey.imdbId("tt1375666", "full"), OmdbMovie.class))
+                .isSameAs(movie);
+        assertThat(cacheManager.getCache(CacheConfig.MOVIE_TITLE_ALIAS_CACHE).get(OmdbCacheKey.title("Inception", "2010", null), String.class))
+                .isEqualTo("tt1375666");
+    }
+
+    @Test
+    void getMovieByTitle_WithKnownAlias_ShouldResolveThroughImdbIdCache() {
+        // Given
+        OmdbMovie first = omdbService.getMovieByTitle("Inception", "2010", null).block();
+
+        // When
+        OmdbMovie second = omdbService.getMovieByTitle("inception ", "2010", "full").block();
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    void getMovieByTitle_WithDifferentPlotLength_ShouldNotReuseAlias() {
+        // Given
+        omdbService.getMovieByTitle("Inception", "2010", null).block();
+
+        // When
+        omdbService.getMovieByTitle("Inception", "2010", "short").block();
+
+        // Then
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void getMovieByImdbId_WithSuccessfulResponse_ShouldFeedLocalTitleIndex() {
+        // When
+        omdbService.getMovieByImdbId("tt1375666", null).block();
+
+        // Then
+        assertThat(localTitleIndex.search("incep", null, null, 10))
+                .extracting(hit -> hit.entry().imdbId())
+                .containsExactly("tt1375666");
+    }
+
+    @Test
+    void getMovieByImdbId_WithKeepRawJson_ShouldKeepUpstreamJson() {
+        // Given
+        properties.setKeepRawJson(true);
+
+        // When
+        OmdbMovie movie = omdbService.getMovieByImdbId("tt1375666", null).block();
+
+        // Then
+        assertThat(movie.getTitle()).isEqualTo("Inception");
+        assertThat(movie.getRawJson()).isEqualTo(INCEPTION);
+    }
+
+    @Test
+    void getMovieByImdbId_ByDefault_ShouldNotKeepUpstreamJson() {
+        // When
+        OmdbMovie movie = omdbService.getMovieByImdbId("tt1375666", null).block();
+
+        // Then
+        assertThat(movie.getTitle()).isEqualTo("Inception");
+        assertThat(movie.getRawJson()).isNull();
+    }
+
+    @Test
+    void getMovieByImdbIdAndTitle_WithCatalogEntry_ShouldNotCallUpstream(@TempDir Path directory) throws Exception {
+        // Given
+        Path catalog = Files.writeString(directory.resolve("movies.jsonl"),
+                "{\"Title\":\"The Matrix\",\"Year\":\"1999\",\"imdbID\":\"tt0133093\",\"Type\":\"movie\"}\n");
+        offlineCatalog.importFile(catalog);
+
+        // When
+        OmdbMovie byId = omdbService.getMovieByImdbId("tt0133093", "short").block();
+        OmdbMovie byTitle = omdbService.getMovieByTitle("the matrix", null, null).block();
+
+        // Then
+        assertThat(byId.getTitle()).isEqualTo("The Matrix");
+        assertThat(byTitle.getImdbId()).isEqualTo("tt0133093");
+        assertThat(upstreamCalls).hasValue(0);
+    }
+
+    @Test
+    void searchMovies_WhenDailyBudgetIsSpent_ShouldServeStaleResponse() {
+        // Given
+        omdbService.searchMovies("Inception", null, null).block();
+        omdbService.getMovieByImdbId("tt0133093", null).block();
+
+        // When
+        OmdbSearchResponse stale = omdbService.searchMovies("inception", null, null).block();
+
+        // Then
+        assertThat(stale).isNotNull();
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(quotaGovernor.getStats()).containsEntry("staleFallbackCount", 1L);
+    }
+
+    @Test
+    void getMovieByImdbId_WhenDailyBudgetIsSpentWithoutStaleData_ShouldFail() {
+        // Given
+        omdbService.getMovieByImdbId("tt1375666", null).block();
+        omdbService.getMovieByImdbId("tt0133093", null).block();
+
+        // Then
+        assertThatThrownBy(() -> omdbService.getMovieByImdbId("tt0468569", null).block())
+                .isInstanceOf(QuotaExceededException.class);
+    }
+
+    @Test
+    void getMovieByImdbId_WhenDailyBudgetIsSpent_ShouldNotRecordRefusalInNegativeCache() {
+        // Given
+        omdbService.getMovieByImdbId("tt1375666", null).block();
+        omdbService.getMovieByImdbId("tt0133093", null).block();
+
+        // When
+        assertThatThrownBy(() -> omdbService.getMovieByImdbId("tt0468569", null).block())
+                .isInstanceOf(QuotaExceededException.class);
+
+        // Then
+        assertThat(cacheManager.getCache(CacheConfig.MOVIE_NEGATIVE_CACHE).get(OmdbCacheKey.imdbId("tt0468569", null)))
+                .isNull();
+    }
+}
@@ -0,0 +1,83 @@
+package co.tyrell.omdb_mcp_server.service;
+
+import co.tyrell.omdb_mcp_server.config.ToolExecutorProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ToolExecutorTest {
+
+    private ToolExecutor toolExecutor;
+
+    @AfterEach
+    void tearDown() {
+        toolExecutor.destroy();
+    }
+
+    @Test
+    void call_InVirtualMode_ShouldRunOnVirtualThread() {
+        // Given
+        toolExecutor = new ToolExecutor(new ToolExecutorProperties());
+
+        // When
+        String result = toolExecutor.call(() -> String.valueOf(Thread.currentThread().isVirtual()));
+
+        // Then
+        assertThat(result).isEqualTo("true");
+        assertThat(toolExecutor.getStats())
+                .containsEntry("mode", "VIRTUAL")
+                .containsEntry("completedCount", 1L);
+    }
+
+    @Test
+    void call_InPlatformMode_ShouldRunOnPlatformThread() {
+        // Given
+        ToolExecutorProperties properties = new ToolExecutorProperties();
+        properties.setMode(ToolExecutorProperties.Mode.PLATFORM);
+        properties.setPlatformPoolSize(2);
+        toolExecutor = new ToolExecutor(properties);
+
+        // When
+        String result = toolExecutor.call(() -> Thread.currentThread().getName());
+
+        // Then
+        assertThat(result).startsWith("mcp-tool-");
+        assertThat(toolExecutor.getStats()).containsEntry("mode", "PLATFORM").containsKey("queued");
+    }
+
+    @Test
+    void call_WhenConcurrencyLimitReached_ShouldRejectAfterTimeout() throws Exception {
+        // Given
+        ToolExecutorProperties properties = new ToolExecutorProperties();
+        properties.setMaxConcurrency(1);
+        properties.setAcquireTimeout(Duration.ofMillis(50));
+        toolExecutor = new ToolExecutor(properties);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> toolExecutor.call(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "done";
+        }));
+        started.await();
+
+        // When
+        String rejected = toolExecutor.call(() -> "never");
+        release.countDown();
+
+        // Then
+        assertThat(rejected).isEqualTo(ToolExecutor.BUSY_MESSAGE);
+        assertThat(running.join()).isEqualTo("done");
+        assertThat(toolExecutor.getStats()).containsEntry("rejectedCount", 1L);
+    }
+}
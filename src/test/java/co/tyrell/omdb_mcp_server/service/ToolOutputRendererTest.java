@@ -0,0 +1,157 @@
+package co.tyrell.omdb_mcp_server.service;
+
+import co.tyrell.omdb_mcp_server.cache.CompactMovie;
+import co.tyrell.omdb_mcp_server.cache.OmdbCacheKey;
+import co.tyrell.omdb_mcp_server.config.CacheConfig;
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbMovie;
+import co.tyrell.omdb_mcp_server.model.omdb.OmdbSearchResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ToolOutputRendererTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ToolOutputRenderer renderer = new ToolOutputRenderer(new CacheConfig(), objectMapper);
+
+    @Test
+    void movie_RenderedAgainFromACopy_ShouldReuseTheCachedOutput() throws Exception {
+        // Given
+        OmdbMovie movie = movie("Inception");
+        ToolOutputRenderer.Rendered first = renderer.movie(movie);
+
+        // When
+        ToolOutputRenderer.Rendered second = renderer.movie(CompactMovie.of(movie).toMovie());
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(first.text()).contains("Inception (2010)", "IMDB ID: tt1375666", "Director: Christopher Nolan");
+        assertThat(first.result()).isInstanceOf(RawValue.class);
+        assertThat(objectMapper.readTree(objectMapper.writeValueAsString(first.result())).at("/content/0/text").asText())
+                .isEqualTo(first.text());
+        assertThat(renderer.getStats()).containsEntry("hitCount", 1L);
+    }
+
+    @Test
+    void movie_WhenChangedAndAnOldCopyIsRenderedAgain_ShouldKeepOutputPerVersion() {
+        // Given
+        OmdbMovie movie = movie("Inception");
+        ToolOutputRenderer.Rendered first = renderer.movie(movie);
+        OmdbMovie changed = movie("Inception");
+        changed.setImdbRating("8.9");
+
+        // When
+        ToolOutputRenderer.Rendered second = renderer.movie(changed);
+        renderer.movie(movie);
+        ToolOutputRenderer.Rendered third = renderer.movie(CompactMovie.of(changed).toMovie());
+
+        // Then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.text()).contains("IMDB Rating: 8.9/10");
+        assertThat(third).isSameAs(second);
+    }
+
+    @Test
+    void search_ForCachedPageWhenChanged_ShouldRenderAgain() {
+        // Given
+        OmdbCacheKey source = OmdbCacheKey.search("Inception", null, null);
+        ToolOutputRenderer.Rendered first = renderer.search(source, searchResponse("1"), Map.of(), null);
+        assertThat(renderer.search(source, searchResponse("1"), Map.of(), null)).isSameAs(first);
+
+        // When
+        ToolOutputRenderer.Rendered second = renderer.search(source, searchResponse("2"), Map.of(), null);
+
+        // Then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.text()).contains("(2 total)");
+    }
+
+    @Test
+    void search_WithoutSourceKey_ShouldRenderWithoutCaching() {
+        // When
+        ToolOutputRenderer.Rendered rendered = renderer.search(null, searchResponse("1"), Map.of(), null);
+
+        // Then
+        assertThat(rendered.text()).startsWith("Search Results (1 total)");
+        assertThat(renderer.getStats()).containsEntry("size", 0L);
+    }
+
+    @Test
+    void movie_WhenNotFound_ShouldRenderTheErrorWithoutCaching() {
+        // Given
+        OmdbMovie movie = new OmdbMovie();
+        movie.setResponse("False");
+        movie.setError("Movie not found!");
+
+        // When
+        ToolOutputRenderer.Rendered rendered = renderer.movie(movie);
+
+        // Then
+        assertThat(rendered.text()).isEqualTo("Movie not found: Movie not found!");
+        assertThat(renderer.getStats()).containsEntry("size", 0L);
+    }
+
+    @Test
+    void batch_ShouldAssembleRenderedMoviesInOrder() {
+        // Given
+        OmdbMovie movie = movie("Inception");
+        List<OmdbBatchService.MovieLookup> lookups = List.of(
+                new OmdbBatchService.MovieLookup("tt0000000", null, "Incorrect IMDb ID."),
+                new OmdbBatchService.MovieLookup("tt1375666", movie, null));
+
+        // When
+        ToolOutputRenderer.Rendered rendered = renderer.batch(lookups);
+
+        // Then
+        assertThat(rendered.text()).startsWith("Found 1 of 2 movies");
+        assertThat(rendered.text().indexOf("tt0000000: Movie not found: Incorrect IMDb ID."))
+                .isLessThan(rendered.text().indexOf(renderer.movie(movie).text()));
+    }
+
+    @Test
+    void movie_WithRenderCacheDisabled_ShouldRenderEachTime() {
+        // Given
+        CacheConfig cacheConfig = new CacheConfig();
+        cacheConfig.getRender().setEnabled(false);
+        ToolOutputRenderer uncached = new ToolOutputRenderer(cacheConfig, objectMapper);
+        OmdbMovie movie = movie("Inception");
+
+        // When
+        ToolOutputRenderer.Rendered rendered = uncached.movie(movie);
+
+        // Then
+        assertThat(uncached.movie(movie)).isNotSameAs(rendered).isEqualTo(rendered);
+        assertThat(rendered.result()).isInstanceOf(Map.class);
+        assertThat(uncached.getStats()).containsEntry("enabled", false);
+    }
+
+    private static OmdbSearchResponse searchResponse(String totalResults) {
+        OmdbSearchResponse.SearchResult result = new OmdbSearchResponse.SearchResult();
+        result.setTitle("Inception");
+        result.setYear("2010");
+        result.setImdbId("tt1375666");
+        result.setType("movie");
+        OmdbSearchResponse searchResponse = new OmdbSearchResponse();
+        searchResponse.setSearch(new OmdbSearchResponse.SearchResult[] { result });
+        searchResponse.setTotalResults(totalResults);
+        searchResponse.setResponse("True");
+        return searchResponse;
+    }
+
+    private static OmdbMovie movie(String title) {
+        OmdbMovie movie = new OmdbMovie();
+        movie.setTitle(title);
+        movie.setYear("2010");
+        movie.setImdbId("tt1375666");
+        movie.setDirector("Christopher Nolan");
+        movie.setImdbRating("8.8");
+        movie.setPlot("A thief who steals corporate secrets through the use of dream-sharing technology...");
+        movie.setResponse("True");
+        return movie;
+    }
+}